@@ -0,0 +1,68 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import com.study.ioc.reader.snapshot.SnapshotBeanDefinitionReader;
+import com.study.ioc.reader.stax.StaxBeanDefinitionReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Run with -prof gc to compare the allocation of the SAX and StAX paths, ReaderPeakMemory compares their peak heap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanDefinitionReaderBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int beanCount;
+
+    private String contextPath;
+    private Path snapshotFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path directory = Files.createTempDirectory("ioc-benchmark");
+        contextPath = SyntheticContextGenerator.write(directory, beanCount).toString();
+        snapshotFile = directory.resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, contextPath).getBeanDefinition();
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> saxReader() {
+        return new XmlBeanDefinitionReader(contextPath).getBeanDefinition();
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> staxReader() {
+        return new StaxBeanDefinitionReader(contextPath).getBeanDefinition();
+    }
+
+    @Benchmark
+    public void staxStreamingReader(Blackhole blackhole) {
+        new StaxBeanDefinitionReader(contextPath).readBeanDefinitions(blackhole::consume);
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> snapshotReader() {
+        return new SnapshotBeanDefinitionReader(snapshotFile, contextPath).getBeanDefinition();
+    }
+}
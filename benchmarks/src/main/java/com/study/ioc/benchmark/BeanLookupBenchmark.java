@@ -0,0 +1,57 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.benchmark.bean.SampleService;
+import com.study.ioc.benchmark.bean.UniqueService;
+import com.study.ioc.context.impl.GenericApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanLookupBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int beanCount;
+
+    private GenericApplicationContext context;
+    private String beanId;
+
+    @Setup
+    public void setUp() throws IOException {
+        String contextPath = SyntheticContextGenerator.write(Files.createTempDirectory("ioc-benchmark"), beanCount).toString();
+        context = new GenericApplicationContext(contextPath);
+        beanId = SyntheticContextGenerator.middleServiceId(beanCount);
+    }
+
+    @Benchmark
+    public Object getBeanById() {
+        return context.getBean(beanId);
+    }
+
+    @Benchmark
+    public UniqueService getBeanByClass() {
+        return context.getBean(UniqueService.class);
+    }
+
+    @Benchmark
+    public SampleService getBeanByIdAndClass() {
+        return context.getBean(beanId, SampleService.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.context.impl.GenericApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextStartupBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int beanCount;
+
+    private String contextPath;
+
+    @Setup
+    public void setUp() throws IOException {
+        contextPath = SyntheticContextGenerator.write(Files.createTempDirectory("ioc-benchmark"), beanCount).toString();
+    }
+
+    @Benchmark
+    public GenericApplicationContext createContext() {
+        return new GenericApplicationContext(contextPath);
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.context.impl.GenericApplicationContext;
+import com.study.ioc.entity.Bean;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InjectionBenchmark {
+
+    @Param({"10", "1000"})
+    private int beanCount;
+
+    private GenericApplicationContext context;
+    private Map<String, BeanDefinition> beanDefinitions;
+    private Map<String, Bean> beans;
+
+    @Setup
+    public void setUp() throws IOException {
+        String contextPath = SyntheticContextGenerator.write(Files.createTempDirectory("ioc-benchmark"), beanCount).toString();
+        context = new GenericApplicationContext(contextPath);
+        beanDefinitions = new XmlBeanDefinitionReader(contextPath).getBeanDefinition();
+        beans = new HashMap<>(context.getBeanMap());
+    }
+
+    @Benchmark
+    public Map<String, Bean> injectValueDependencies() {
+        context.injectValueDependencies(beanDefinitions, beans);
+        return beans;
+    }
+
+    @Benchmark
+    public Map<String, Bean> injectRefDependencies() {
+        context.injectRefDependencies(beanDefinitions, beans);
+        return beans;
+    }
+}
@@ -0,0 +1,80 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import com.study.ioc.reader.stax.StaxBeanDefinitionReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Peak live heap of reading one context file, measured as the smallest -Xmx a fresh JVM needs to
+// read it without an OutOfMemoryError. Unlike the peak usage of the memory pools this does not
+// depend on when the collector happens to run. Usage:
+// java -cp target/benchmarks.jar com.study.ioc.benchmark.ReaderPeakMemory [beanCount]
+public final class ReaderPeakMemory {
+    private static final List<String> READERS = List.of("sax", "stax", "staxStreaming");
+    private static final int MIN_HEAP_MB = 2;
+    private static final int MAX_HEAP_MB = 2048;
+
+    private ReaderPeakMemory() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("read")) {
+            read(args[1], args[2]);
+            return;
+        }
+        int beanCount = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        Path directory = Files.createTempDirectory("ioc-peak-memory");
+        String contextPath = SyntheticContextGenerator.write(directory, beanCount).toString();
+        System.out.printf("%-14s %8s %14s%n", "reader", "beans", "min heap (MB)");
+        for (String reader : READERS) {
+            int minHeapMegabytes = findMinHeapMegabytes(reader, contextPath);
+            // The JVM doesn't start with less, so the smallest heap is an upper bound only
+            String minHeap = minHeapMegabytes == MIN_HEAP_MB ? "<= " + MIN_HEAP_MB : String.valueOf(minHeapMegabytes);
+            System.out.printf("%-14s %8d %14s%n", reader, beanCount, minHeap);
+        }
+    }
+
+    private static void read(String reader, String contextPath) {
+        switch (reader) {
+            case "sax" -> new XmlBeanDefinitionReader(contextPath).getBeanDefinition();
+            case "stax" -> new StaxBeanDefinitionReader(contextPath).getBeanDefinition();
+            case "staxStreaming" -> new StaxBeanDefinitionReader(contextPath).readBeanDefinitions(beanDefinition -> {
+            });
+            default -> throw new IllegalArgumentException("Unknown reader " + reader);
+        }
+    }
+
+    private static int findMinHeapMegabytes(String reader, String contextPath) throws IOException, InterruptedException {
+        if (!readsWithin(reader, contextPath, MAX_HEAP_MB)) {
+            throw new IllegalStateException("Reader " + reader + " needs more than " + MAX_HEAP_MB + " MB");
+        }
+        int low = MIN_HEAP_MB - 1;
+        int high = MAX_HEAP_MB;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (readsWithin(reader, contextPath, middle)) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+
+    // Serial GC and no class data sharing keep the baseline of each JVM the same for all readers
+    private static boolean readsWithin(String reader, String contextPath, int heapMegabytes)
+            throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + heapMegabytes + "m", "-Xms" + MIN_HEAP_MB + "m",
+                "-XX:+UseSerialGC", "-Xshare:off",
+                "-cp", System.getProperty("java.class.path"),
+                ReaderPeakMemory.class.getName(), "read", reader, contextPath)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        return process.waitFor() == 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.benchmark.bean.SampleRepository;
+import com.study.ioc.context.impl.GenericApplicationContext;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.scope.RequestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// A request creates its bean, looks it up a few times and ends. The thread
+// scope has to release the bean explicitly, the request scope drops it with
+// its carrier.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ScopedBeanBenchmark {
+    private static final String THREAD_BEAN_ID = "threadRepository";
+    private static final String REQUEST_BEAN_ID = "requestRepository";
+    private static final int LOOKUPS_PER_REQUEST = 4;
+
+    private GenericApplicationContext context;
+
+    @Setup
+    public void setUp() {
+        BeanDefinition threadBeanDefinition = new BeanDefinition(THREAD_BEAN_ID, SampleRepository.class.getName());
+        threadBeanDefinition.setScope("thread");
+        BeanDefinition requestBeanDefinition = new BeanDefinition(REQUEST_BEAN_ID, SampleRepository.class.getName());
+        requestBeanDefinition.setScope("request");
+        context = new GenericApplicationContext(() -> Map.of(THREAD_BEAN_ID, threadBeanDefinition,
+                REQUEST_BEAN_ID, requestBeanDefinition));
+    }
+
+    @Benchmark
+    public Object threadScopeLookup() {
+        return context.getBean(THREAD_BEAN_ID);
+    }
+
+    @Benchmark
+    public Object threadScopeRequest() {
+        Object bean = null;
+        for (int i = 0; i < LOOKUPS_PER_REQUEST; i++) {
+            bean = context.getBean(THREAD_BEAN_ID);
+        }
+        context.releaseBean(THREAD_BEAN_ID, bean);
+        return bean;
+    }
+
+    @Benchmark
+    public Object requestScopeLookup(BoundRequest boundRequest) throws Exception {
+        return boundRequest.requestContext.call(() -> context.getBean(REQUEST_BEAN_ID));
+    }
+
+    @Benchmark
+    public Object requestScopeRequest() throws Exception {
+        return new RequestContext().call(() -> {
+            Object bean = null;
+            for (int i = 0; i < LOOKUPS_PER_REQUEST; i++) {
+                bean = context.getBean(REQUEST_BEAN_ID);
+            }
+            return bean;
+        });
+    }
+
+    @State(Scope.Thread)
+    public static class BoundRequest {
+        private final RequestContext requestContext = new RequestContext();
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.ioc.benchmark;
+
+import com.study.ioc.benchmark.bean.SampleRepository;
+import com.study.ioc.benchmark.bean.SampleService;
+import com.study.ioc.benchmark.bean.UniqueService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class SyntheticContextGenerator {
+
+    private SyntheticContextGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args.length > 0 ? args[0] : ".");
+        int beanCount = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        System.out.println(write(directory, beanCount));
+    }
+
+    // Writes beanCount beans: repository/service pairs, where every service refers to its repository,
+    // plus one UniqueService so that lookups by type have an unambiguous target.
+    public static Path write(Path directory, int beanCount) throws IOException {
+        Files.createDirectories(directory);
+        Path contextFile = directory.resolve("context-" + beanCount + ".xml");
+        try (BufferedWriter writer = Files.newBufferedWriter(contextFile)) {
+            writer.write("<beans>\n");
+            writer.write("    <bean id=\"uniqueService\" class=\"" + UniqueService.class.getName() + "\">\n");
+            writer.write("        <property name=\"sampleService\" ref=\"service0\"/>\n");
+            writer.write("    </bean>\n");
+            for (int i = 0; i < pairCount(beanCount); i++) {
+                writer.write("    <bean id=\"repository" + i + "\" class=\"" + SampleRepository.class.getName() + "\">\n");
+                writer.write("        <property name=\"url\" value=\"jdbc:h2:mem:db" + i + "\"/>\n");
+                writer.write("        <property name=\"poolSize\" value=\"" + (i % 32 + 1) + "\"/>\n");
+                writer.write("    </bean>\n");
+                writer.write("    <bean id=\"service" + i + "\" class=\"" + SampleService.class.getName() + "\">\n");
+                writer.write("        <property name=\"name\" value=\"service" + i + "\"/>\n");
+                writer.write("        <property name=\"timeout\" value=\"" + (i % 1000) + "\"/>\n");
+                writer.write("        <property name=\"repository\" ref=\"repository" + i + "\"/>\n");
+                writer.write("    </bean>\n");
+            }
+            writer.write("</beans>\n");
+        }
+        return contextFile;
+    }
+
+    public static String middleServiceId(int beanCount) {
+        return "service" + pairCount(beanCount) / 2;
+    }
+
+    private static int pairCount(int beanCount) {
+        return Math.max(1, (beanCount - 1) / 2);
+    }
+}
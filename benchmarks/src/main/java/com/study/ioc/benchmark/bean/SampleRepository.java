@@ -0,0 +1,22 @@
+package com.study.ioc.benchmark.bean;
+
+public class SampleRepository {
+    private String url;
+    private int poolSize;
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.ioc.benchmark.bean;
+
+import javax.annotation.PostConstruct;
+
+public class SampleService {
+    private String name;
+    private int timeout;
+    private SampleRepository repository;
+    private boolean initialized;
+
+    @PostConstruct
+    public void init() {
+        initialized = true;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setTimeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setRepository(SampleRepository repository) {
+        this.repository = repository;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+    public SampleRepository getRepository() {
+        return repository;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.ioc.benchmark.bean;
+
+public class UniqueService {
+    private SampleService sampleService;
+
+    public void setSampleService(SampleService sampleService) {
+        this.sampleService = sampleService;
+    }
+
+    public SampleService getSampleService() {
+        return sampleService;
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.ioc.accessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public interface BeanAccessorFactory {
+    Supplier<Object> getConstructor(Class<?> clazz);
+
+    Function<Object[], Object> getConstructor(Constructor<?> constructor);
+
+    BiConsumer<Object, Object> getSetter(Method setter);
+}
@@ -0,0 +1,149 @@
+package com.study.ioc.accessor;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class LambdaBeanAccessorFactory implements BeanAccessorFactory {
+    private static final LambdaBeanAccessorFactory DEFAULT_FACTORY = new LambdaBeanAccessorFactory();
+
+    private final BeanAccessorFactory fallbackFactory;
+    // Accessors are cached per declaring class, so they are dropped together with its class loader
+    private final ClassValue<Map<Method, BiConsumer<Object, Object>>> setters = new ClassValue<>() {
+        @Override
+        protected Map<Method, BiConsumer<Object, Object>> computeValue(Class<?> clazz) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final ClassValue<Map<Constructor<?>, Function<Object[], Object>>> argumentConstructors = new ClassValue<>() {
+        @Override
+        protected Map<Constructor<?>, Function<Object[], Object>> computeValue(Class<?> clazz) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final ClassValue<Supplier<Object>> constructors = new ClassValue<>() {
+        @Override
+        protected Supplier<Object> computeValue(Class<?> clazz) {
+            return createConstructor(clazz);
+        }
+    };
+
+    public LambdaBeanAccessorFactory() {
+        this(new ReflectionBeanAccessorFactory());
+    }
+
+    public LambdaBeanAccessorFactory(BeanAccessorFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    public static LambdaBeanAccessorFactory getDefault() {
+        return DEFAULT_FACTORY;
+    }
+
+    @Override
+    public Supplier<Object> getConstructor(Class<?> clazz) {
+        return constructors.get(clazz);
+    }
+
+    @Override
+    public Function<Object[], Object> getConstructor(Constructor<?> constructor) {
+        return argumentConstructors.get(constructor.getDeclaringClass())
+                .computeIfAbsent(constructor, this::createConstructor);
+    }
+
+    @Override
+    public BiConsumer<Object, Object> getSetter(Method setter) {
+        return setters.get(setter.getDeclaringClass()).computeIfAbsent(setter, this::createSetter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<Object> createConstructor(Class<?> clazz) {
+        if (!Modifier.isPublic(clazz.getModifiers()) || Modifier.isAbstract(clazz.getModifiers())) {
+            return fallbackFactory.getConstructor(clazz);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            MethodHandle constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class));
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(clazz));
+            Supplier<Object> accessor = (Supplier<Object>) callSite.getTarget().invoke();
+            return () -> {
+                try {
+                    return accessor.get();
+                } catch (Exception exception) {
+                    throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+                }
+            };
+        } catch (Throwable throwable) {
+            return fallbackFactory.getConstructor(clazz);
+        }
+    }
+
+    // A spread method handle is one call for any number of arguments, unlike Constructor.newInstance
+    // it does not check access and wrap the arguments again on every instantiation.
+    private Function<Object[], Object> createConstructor(Constructor<?> constructor) {
+        Class<?> clazz = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return fallbackFactory.getConstructor(constructor);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            MethodHandle constructorHandle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return arguments -> {
+                try {
+                    return constructorHandle.invokeExact(arguments);
+                } catch (Throwable throwable) {
+                    throw new BeanInstantiationException("Can`t create bean`s instantiation", throwable);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return fallbackFactory.getConstructor(constructor);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object> createSetter(Method setter) {
+        Class<?> declaringClass = setter.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle setterHandle = lookup.unreflect(setter);
+            Class<?> parameterType = setterHandle.type().parameterType(1);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    setterHandle,
+                    MethodType.methodType(void.class, declaringClass, boxed(parameterType)));
+            BiConsumer<Object, Object> accessor = (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+            return (bean, value) -> {
+                try {
+                    accessor.accept(bean, value);
+                } catch (Exception exception) {
+                    throw new BeanInstantiationException("Can`t invoke setter " + setter.getName(), exception);
+                }
+            };
+        } catch (Throwable throwable) {
+            return fallbackFactory.getSetter(setter);
+        }
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
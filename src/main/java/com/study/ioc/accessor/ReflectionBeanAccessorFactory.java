@@ -0,0 +1,52 @@
+package com.study.ioc.accessor;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ReflectionBeanAccessorFactory implements BeanAccessorFactory {
+
+    @Override
+    public Supplier<Object> getConstructor(Class<?> clazz) {
+        Constructor<?> constructor;
+        try {
+            constructor = clazz.getConstructor();
+        } catch (NoSuchMethodException exception) {
+            throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+            }
+        };
+    }
+
+    @Override
+    public Function<Object[], Object> getConstructor(Constructor<?> constructor) {
+        return arguments -> {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+            }
+        };
+    }
+
+    @Override
+    public BiConsumer<Object, Object> getSetter(Method setter) {
+        return (bean, value) -> {
+            try {
+                setter.invoke(bean, value);
+            } catch (IllegalAccessException | InvocationTargetException exception) {
+                throw new BeanInstantiationException("Can`t invoke setter " + setter.getName(), exception);
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.ioc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Bean id defaults to the simple class name starting with a lower case letter.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Component {
+    String value() default "";
+
+    String scope() default "";
+
+    boolean lazyInit() default false;
+}
@@ -0,0 +1,122 @@
+package com.study.ioc.aot;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ContextGenerationException;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.processor.BeanFactoryPostProcessor;
+import com.study.ioc.processor.Ordered;
+import com.study.ioc.reader.sax.ContextHandler;
+import org.xml.sax.SAXException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes("com.study.ioc.aot.CompiledContext")
+public class CompiledContextProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(CompiledContext.class)) {
+            CompiledContext compiledContext = element.getAnnotation(CompiledContext.class);
+            String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+            String qualifiedName = packageName.isEmpty()
+                    ? compiledContext.className() : packageName + "." + compiledContext.className();
+            try {
+                Map<String, BeanDefinition> beanDefinitions = readBeanDefinitions(compiledContext.value());
+                processBeanDefinitions(beanDefinitions);
+                String source = new ContextSourceGenerator(processingEnv)
+                        .generate(packageName, compiledContext.className(), beanDefinitions);
+                JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, element);
+                try (Writer writer = sourceFile.openWriter()) {
+                    writer.write(source);
+                }
+            } catch (IOException | ParseContextException | ContextGenerationException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Can`t generate " + qualifiedName + ": " + describe(exception), element);
+            }
+        }
+        return true;
+    }
+
+    // Same merge rules as XmlBeanDefinitionReader: a bean id may be defined in one file only
+    private Map<String, BeanDefinition> readBeanDefinitions(String[] paths) throws IOException {
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+        Map<String, String> beanDefinitionPaths = new HashMap<>();
+        for (String path : paths) {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            ContextHandler handler = new ContextHandler();
+            try (InputStream inputStream = resource.openInputStream()) {
+                SAXParserFactory.newInstance().newSAXParser().parse(inputStream, handler);
+            } catch (ParserConfigurationException | SAXException | ParseContextException exception) {
+                throw new ParseContextException("Context parse failed for " + path, exception);
+            }
+            for (Map.Entry<String, BeanDefinition> entry : handler.getBeanDefinitions().entrySet()) {
+                String previousPath = beanDefinitionPaths.putIfAbsent(entry.getKey(), path);
+                if (previousPath != null) {
+                    throw new ParseContextException("Bean " + entry.getKey() + " is defined in both "
+                            + previousPath + " and " + path);
+                }
+                beanDefinitions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return beanDefinitions;
+    }
+
+    private static String describe(Exception exception) {
+        StringBuilder message = new StringBuilder(String.valueOf(exception.getMessage()));
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            message.append(": ").append(cause.getMessage());
+        }
+        return message.toString();
+    }
+
+    private void processBeanDefinitions(Map<String, BeanDefinition> beanDefinitions) {
+        TypeElement factoryPostProcessorType =
+                processingEnv.getElementUtils().getTypeElement(BeanFactoryPostProcessor.class.getCanonicalName());
+        Map<String, BeanFactoryPostProcessor> factoryPostProcessors = new HashMap<>();
+        for (BeanDefinition beanDefinition : new ArrayList<>(beanDefinitions.values())) {
+            TypeElement beanType = processingEnv.getElementUtils()
+                    .getTypeElement(beanDefinition.getClassName().replace('$', '.'));
+            if (beanType == null || !processingEnv.getTypeUtils()
+                    .isAssignable(beanType.asType(), factoryPostProcessorType.asType())) {
+                continue;
+            }
+            try {
+                Object factoryPostProcessor = Class.forName(beanDefinition.getClassName(), true, getClass().getClassLoader())
+                        .getConstructor().newInstance();
+                factoryPostProcessors.put(beanDefinition.getId(), (BeanFactoryPostProcessor) factoryPostProcessor);
+            } catch (ReflectiveOperationException exception) {
+                throw new ContextGenerationException("BeanFactoryPostProcessor " + beanDefinition.getClassName()
+                        + " must be available on the annotation processor path");
+            }
+        }
+        factoryPostProcessors.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, BeanFactoryPostProcessor> entry) ->
+                                entry.getValue() instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE)
+                        .thenComparing(Map.Entry::getKey))
+                .forEach(entry -> entry.getValue().postProcessBeanFactory(beanDefinitions));
+    }
+}
@@ -0,0 +1,350 @@
+package com.study.ioc.aot;
+
+import com.study.ioc.convert.ConversionService;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ContextGenerationException;
+import com.study.ioc.exception.ConversionException;
+import com.study.ioc.processor.BeanPostProcessor;
+import com.study.ioc.property.PropertyNames;
+import com.study.ioc.scope.Scope;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+class ContextSourceGenerator {
+    private final Elements elements;
+    private final Types types;
+    private final ConversionService conversionService = new ConversionService();
+
+    ContextSourceGenerator(ProcessingEnvironment processingEnvironment) {
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+    }
+
+    String generate(String packageName, String className, Map<String, BeanDefinition> beanDefinitions) {
+        Map<String, String> variables = new HashMap<>();
+        Map<String, TypeElement> beanTypes = new HashMap<>();
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            String scope = beanDefinition.getScope();
+            if (scope != null && !Scope.SINGLETON.equals(scope)) {
+                throw new ContextGenerationException("Bean " + beanDefinition.getId()
+                        + " has scope " + scope + " which is not supported by compiled contexts");
+            }
+            if (!beanDefinition.getConstructorArguments().isEmpty()) {
+                throw new ContextGenerationException("Bean " + beanDefinition.getId()
+                        + " has constructor arguments which are not supported by compiled contexts");
+            }
+            variables.put(beanDefinition.getId(), "bean" + variables.size());
+            beanTypes.put(beanDefinition.getId(), getBeanType(beanDefinition));
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("""
+                import com.study.ioc.context.ApplicationContext;
+                import com.study.ioc.entity.Bean;
+                import com.study.ioc.exception.NoSuchBeanDefinitionException;
+                import com.study.ioc.exception.NoUniqueBeanOfTypeException;
+                import com.study.ioc.exception.ProcessPostConstructException;
+                import com.study.ioc.processor.BeanPostProcessor;
+
+                import java.lang.reflect.Method;
+                import java.math.BigDecimal;
+                import java.math.BigInteger;
+                import java.time.Duration;
+                import java.util.ArrayList;
+                import java.util.HashMap;
+                import java.util.List;
+                import java.util.Map;
+
+                """);
+        source.append("public class ").append(className).append(" implements ApplicationContext {\n");
+        source.append("    private final Map<String, Object> beans = new HashMap<>();\n");
+        source.append("    private final List<BeanPostProcessor> beanPostProcessors = new ArrayList<>();\n\n");
+        source.append("    public ").append(className).append("() {\n");
+
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            String typeName = beanTypes.get(beanDefinition.getId()).getQualifiedName().toString();
+            source.append("        ").append(typeName).append(' ').append(variables.get(beanDefinition.getId()))
+                    .append(" = new ").append(typeName).append("();\n");
+        }
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            TypeElement beanType = beanTypes.get(beanDefinition.getId());
+            String variable = variables.get(beanDefinition.getId());
+            for (Map.Entry<String, String> valueDependency : beanDefinition.getValueDependencies().entrySet()) {
+                ExecutableElement setter = getSetter(beanType, valueDependency.getKey());
+                source.append("        ").append(variable).append('.').append(setter.getSimpleName()).append('(')
+                        .append(toLiteral(setter.getParameters().get(0).asType(), valueDependency.getValue()))
+                        .append(");\n");
+            }
+        }
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            TypeElement beanType = beanTypes.get(beanDefinition.getId());
+            String variable = variables.get(beanDefinition.getId());
+            for (Map.Entry<String, String> refDependency : beanDefinition.getRefDependencies().entrySet()) {
+                String refVariable = variables.get(refDependency.getValue());
+                if (refVariable == null) {
+                    throw new ContextGenerationException("No bean " + refDependency.getValue()
+                            + " referenced by " + beanDefinition.getId());
+                }
+                ExecutableElement setter = getSetter(beanType, refDependency.getKey());
+                source.append("        ").append(variable).append('.').append(setter.getSimpleName()).append("((")
+                        .append(types.erasure(setter.getParameters().get(0).asType())).append(") ")
+                        .append(refVariable).append(");\n");
+            }
+        }
+        TypeMirror beanPostProcessorType = elements.getTypeElement(BeanPostProcessor.class.getCanonicalName()).asType();
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            String variable = variables.get(beanDefinition.getId());
+            source.append("        beans.put(\"").append(escape(beanDefinition.getId())).append("\", ")
+                    .append(variable).append(");\n");
+            if (types.isAssignable(beanTypes.get(beanDefinition.getId()).asType(), beanPostProcessorType)) {
+                source.append("        beanPostProcessors.add(").append(variable).append(");\n");
+            }
+        }
+        source.append("        processBeans(true);\n");
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            TypeElement beanType = beanTypes.get(beanDefinition.getId());
+            List<ExecutableElement> initMethods = ElementFilter.methodsIn(beanType.getEnclosedElements()).stream()
+                    .filter(method -> method.getAnnotation(PostConstruct.class) != null)
+                    .toList();
+            if (initMethods.isEmpty()) {
+                continue;
+            }
+            String typeName = beanType.getQualifiedName().toString();
+            source.append("        if (beans.get(\"").append(escape(beanDefinition.getId())).append("\") instanceof ")
+                    .append(typeName).append(" bean) {\n");
+            for (ExecutableElement initMethod : initMethods) {
+                if (initMethod.getModifiers().contains(Modifier.PUBLIC)) {
+                    source.append("            bean.").append(initMethod.getSimpleName()).append("();\n");
+                } else {
+                    source.append("            invokePostConstruct(bean, ").append(typeName).append(".class, \"")
+                            .append(initMethod.getSimpleName()).append("\");\n");
+                }
+            }
+            source.append("        }\n");
+        }
+        source.append("        processBeans(false);\n");
+        source.append("    }\n");
+        source.append("""
+
+                    @Override
+                    public Object getBean(String beanId) {
+                        return beans.get(beanId);
+                    }
+
+                    @Override
+                    public <T> T getBean(Class<T> clazz) {
+                        T beanValue = null;
+                        for (Object bean : beans.values()) {
+                            if (clazz.isInstance(bean)) {
+                                if (beanValue != null) {
+                                    throw new NoUniqueBeanOfTypeException("No unique bean of type" + clazz.getName());
+                                }
+                                beanValue = clazz.cast(bean);
+                            }
+                        }
+                        return beanValue;
+                    }
+
+                    @Override
+                    public <T> T getBean(String id, Class<T> clazz) {
+                        Object bean = beans.get(id);
+                        if (bean != null && bean.getClass() == clazz) {
+                            return clazz.cast(bean);
+                        }
+                        throw new NoSuchBeanDefinitionException(id, clazz.getName(), bean == null ? null : bean.getClass().getName());
+                    }
+
+                    @Override
+                    public List<String> getBeanNames() {
+                        return new ArrayList<>(beans.keySet());
+                    }
+
+                    private void processBeans(boolean beforeInitialization) {
+                        for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+                            for (Map.Entry<String, Object> entry : beans.entrySet()) {
+                                if (!beanPostProcessor.appliesTo(entry.getValue().getClass())) {
+                                    continue;
+                                }
+                                Bean bean = new Bean(entry.getKey(), entry.getValue());
+                                entry.setValue(beforeInitialization
+                                        ? beanPostProcessor.postProcessBeforeInitialization(entry.getKey(), bean)
+                                        : beanPostProcessor.postProcessAfterInitialization(entry.getKey(), bean));
+                            }
+                        }
+                    }
+
+                    private static void invokePostConstruct(Object bean, Class<?> clazz, String methodName) {
+                        try {
+                            Method method = clazz.getDeclaredMethod(methodName);
+                            method.setAccessible(true);
+                            method.invoke(bean);
+                        } catch (ReflectiveOperationException exception) {
+                            throw new ProcessPostConstructException("Can`t invoke method to initialize beans", exception);
+                        }
+                    }
+                }
+                """);
+        return source.toString();
+    }
+
+    private TypeElement getBeanType(BeanDefinition beanDefinition) {
+        TypeElement beanType = elements.getTypeElement(beanDefinition.getClassName().replace('$', '.'));
+        if (beanType == null) {
+            throw new ContextGenerationException("No class " + beanDefinition.getClassName()
+                    + " for bean " + beanDefinition.getId());
+        }
+        boolean hasPublicConstructor = ElementFilter.constructorsIn(beanType.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && constructor.getModifiers().contains(Modifier.PUBLIC));
+        if (!beanType.getModifiers().contains(Modifier.PUBLIC) || beanType.getModifiers().contains(Modifier.ABSTRACT)
+                || !hasPublicConstructor) {
+            throw new ContextGenerationException("Bean " + beanDefinition.getId()
+                    + " needs a public class with a public no-arg constructor");
+        }
+        return beanType;
+    }
+
+    private ExecutableElement getSetter(TypeElement beanType, String propertyName) {
+        String setterName = PropertyNames.toSetterName(propertyName);
+        List<ExecutableElement> setters = ElementFilter.methodsIn(elements.getAllMembers(beanType)).stream()
+                .filter(method -> method.getSimpleName().contentEquals(setterName))
+                .filter(method -> method.getParameters().size() == 1)
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .toList();
+        if (setters.isEmpty()) {
+            throw new ContextGenerationException("No setter for property " + propertyName
+                    + " of " + beanType.getQualifiedName());
+        }
+        if (setters.size() > 1) {
+            throw new ContextGenerationException("Can`t choose between overloaded setters of property " + propertyName
+                    + " of " + beanType.getQualifiedName());
+        }
+        return setters.get(0);
+    }
+
+    // Mirrors the conversions of ConversionService, but values are checked and turned into literals while
+    // generating, so a compiled context does no parsing at startup. User converters can't run here.
+    private String toLiteral(TypeMirror type, String value) {
+        try {
+            if (type.getKind().isPrimitive()) {
+                return toPrimitiveLiteral(type.getKind(), value);
+            }
+            if (type.getKind() == TypeKind.WILDCARD) {
+                TypeMirror extendsBound = ((WildcardType) type).getExtendsBound();
+                return extendsBound == null ? toStringLiteral(value) : toLiteral(extendsBound, value);
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                throw new ContextGenerationException("Unsupported value type " + type);
+            }
+            TypeElement typeElement = (TypeElement) types.asElement(type);
+            if (typeElement.getKind() == ElementKind.ENUM) {
+                return toEnumLiteral(typeElement, value);
+            }
+            String typeName = typeElement.getQualifiedName().toString();
+            return switch (typeName) {
+                case "java.lang.String", "java.lang.CharSequence", "java.lang.Object" -> toStringLiteral(value);
+                case "java.time.Duration" -> {
+                    Duration duration = conversionService.convert(value, Duration.class);
+                    yield "java.time.Duration.ofSeconds(" + duration.getSeconds() + "L, " + duration.getNano() + "L)";
+                }
+                case "java.nio.file.Path" -> "java.nio.file.Path.of(" + toStringLiteral(value) + ")";
+                case "java.math.BigInteger", "java.math.BigDecimal" -> "new " + typeName + "("
+                        + toStringLiteral(conversionService.convert(value, typeName.endsWith("Integer")
+                        ? BigInteger.class : BigDecimal.class).toString()) + ")";
+                case "java.util.List", "java.util.Collection", "java.lang.Iterable" -> toListLiteral(type, value);
+                case "java.util.Set" -> "java.util.Collections.unmodifiableSet(new java.util.LinkedHashSet<>("
+                        + toListLiteral(type, value) + "))";
+                default -> toPrimitiveLiteral(unbox(type).getKind(), value);
+            };
+        } catch (ConversionException exception) {
+            throw new ContextGenerationException("Can`t convert " + value + " to " + type);
+        }
+    }
+
+    private TypeMirror unbox(TypeMirror type) {
+        try {
+            return types.unboxedType(type);
+        } catch (IllegalArgumentException exception) {
+            throw new ContextGenerationException("Unsupported value type " + type);
+        }
+    }
+
+    private String toPrimitiveLiteral(TypeKind kind, String value) {
+        return switch (kind) {
+            case INT -> String.valueOf(conversionService.convert(value, Integer.TYPE));
+            case LONG -> conversionService.convert(value, Long.TYPE) + "L";
+            case SHORT -> "(short) " + conversionService.convert(value, Short.TYPE);
+            case BYTE -> "(byte) " + conversionService.convert(value, Byte.TYPE);
+            case DOUBLE -> {
+                double doubleValue = conversionService.convert(value, Double.TYPE);
+                yield Double.isFinite(doubleValue) ? doubleValue + "d"
+                        : "Double.longBitsToDouble(" + Double.doubleToRawLongBits(doubleValue) + "L)";
+            }
+            case FLOAT -> {
+                float floatValue = conversionService.convert(value, Float.TYPE);
+                yield Float.isFinite(floatValue) ? floatValue + "f"
+                        : "Float.intBitsToFloat(" + Float.floatToRawIntBits(floatValue) + ")";
+            }
+            case BOOLEAN -> String.valueOf(conversionService.convert(value, Boolean.TYPE));
+            case CHAR -> "'" + escape(String.valueOf(conversionService.convert(value, Character.TYPE))) + "'";
+            default -> throw new ContextGenerationException("Unsupported value type " + kind);
+        };
+    }
+
+    private String toEnumLiteral(TypeElement enumType, String value) {
+        String name = value.trim();
+        boolean hasConstant = enumType.getEnclosedElements().stream()
+                .anyMatch(element -> element.getKind() == ElementKind.ENUM_CONSTANT
+                        && element.getSimpleName().contentEquals(name));
+        if (!hasConstant) {
+            throw new ContextGenerationException("No constant " + name + " in enum " + enumType.getQualifiedName());
+        }
+        return enumType.getQualifiedName() + "." + name;
+    }
+
+    private String toListLiteral(TypeMirror type, String value) {
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        TypeMirror elementType = typeArguments.isEmpty()
+                ? elements.getTypeElement(String.class.getCanonicalName()).asType()
+                : typeArguments.get(0);
+        StringJoiner literal = new StringJoiner(", ", "java.util.List.of(", ")");
+        if (!value.isBlank()) {
+            for (String element : value.split(",")) {
+                literal.add(toLiteral(elementType, element.trim()));
+            }
+        }
+        return literal.toString();
+    }
+
+    private static String toStringLiteral(String value) {
+        return "\"" + escape(value) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("'", "\\'")
+                .replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+    }
+}
@@ -8,4 +8,7 @@ public interface ApplicationContext {
     <T> T getBean(String id, Class<T> clazz);
     List<String> getBeanNames();
 
+    default boolean containsBean(String beanId) {
+        return getBeanNames().contains(beanId);
+    }
 }
@@ -0,0 +1,31 @@
+package com.study.ioc.context;
+
+import com.study.ioc.convert.ConversionService;
+import com.study.ioc.metrics.LookupMetrics;
+import com.study.ioc.scope.Scope;
+import com.study.ioc.startup.StartupListener;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+@Getter
+@Builder
+public class ContextOptions {
+    private final Executor executor;
+    private final boolean defaultLazyInit;
+    private final LookupMetrics lookupMetrics;
+    private final ConversionService conversionService;
+    private final ApplicationContext parent;
+    @Singular
+    private final Map<String, Scope> scopes;
+    @Singular
+    private final List<StartupListener> startupListeners;
+
+    public static ContextOptions defaults() {
+        return builder().build();
+    }
+}
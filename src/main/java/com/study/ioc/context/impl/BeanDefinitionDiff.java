@@ -0,0 +1,71 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Beans to recreate are the added and changed definitions plus everything that
+// reaches them, or a removed bean, through ref dependencies.
+class BeanDefinitionDiff {
+    private final Set<String> removedBeanIds = new HashSet<>();
+    private final Set<String> affectedBeanIds = new HashSet<>();
+
+    BeanDefinitionDiff(Map<String, BeanDefinition> oldBeanDefinitions, Map<String, BeanDefinition> newBeanDefinitions) {
+        Deque<String> changedBeanIds = new ArrayDeque<>();
+        for (String beanId : oldBeanDefinitions.keySet()) {
+            if (!newBeanDefinitions.containsKey(beanId)) {
+                removedBeanIds.add(beanId);
+                changedBeanIds.add(beanId);
+            }
+        }
+        for (Map.Entry<String, BeanDefinition> entry : newBeanDefinitions.entrySet()) {
+            if (!isSame(oldBeanDefinitions.get(entry.getKey()), entry.getValue())) {
+                affectedBeanIds.add(entry.getKey());
+                changedBeanIds.add(entry.getKey());
+            }
+        }
+
+        Map<String, Set<String>> dependents = new HashMap<>();
+        for (BeanDefinition beanDefinition : newBeanDefinitions.values()) {
+            for (String refBeanId : BeanDependencies.getAllRefs(beanDefinition)) {
+                dependents.computeIfAbsent(refBeanId, beanId -> new HashSet<>()).add(beanDefinition.getId());
+            }
+        }
+        while (!changedBeanIds.isEmpty()) {
+            for (String dependentBeanId : dependents.getOrDefault(changedBeanIds.poll(), Set.of())) {
+                if (affectedBeanIds.add(dependentBeanId)) {
+                    changedBeanIds.add(dependentBeanId);
+                }
+            }
+        }
+    }
+
+    Set<String> getRemovedBeanIds() {
+        return removedBeanIds;
+    }
+
+    Set<String> getAffectedBeanIds() {
+        return affectedBeanIds;
+    }
+
+    boolean isEmpty() {
+        return removedBeanIds.isEmpty() && affectedBeanIds.isEmpty();
+    }
+
+    static boolean isSame(BeanDefinition oldBeanDefinition, BeanDefinition newBeanDefinition) {
+        return oldBeanDefinition != null
+                && Objects.equals(oldBeanDefinition.getClassName(), newBeanDefinition.getClassName())
+                && Objects.equals(oldBeanDefinition.getValueDependencies(), newBeanDefinition.getValueDependencies())
+                && Objects.equals(oldBeanDefinition.getRefDependencies(), newBeanDefinition.getRefDependencies())
+                && Objects.equals(oldBeanDefinition.getConstructorArguments(), newBeanDefinition.getConstructorArguments())
+                && Objects.equals(oldBeanDefinition.getLazyInit(), newBeanDefinition.getLazyInit())
+                && Objects.equals(oldBeanDefinition.getScope(), newBeanDefinition.getScope())
+                && Objects.equals(oldBeanDefinition.getScopeAttributes(), newBeanDefinition.getScopeAttributes());
+    }
+}
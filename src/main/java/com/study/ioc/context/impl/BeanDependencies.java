@@ -0,0 +1,29 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+
+import java.util.HashSet;
+import java.util.Set;
+
+final class BeanDependencies {
+
+    private BeanDependencies() {
+    }
+
+    static Set<String> getConstructorRefs(BeanDefinition beanDefinition) {
+        Set<String> refs = new HashSet<>();
+        for (ConstructorArgument argument : beanDefinition.getConstructorArguments()) {
+            if (argument.getRef() != null) {
+                refs.add(argument.getRef());
+            }
+        }
+        return refs;
+    }
+
+    static Set<String> getAllRefs(BeanDefinition beanDefinition) {
+        Set<String> refs = getConstructorRefs(beanDefinition);
+        refs.addAll(beanDefinition.getRefDependencies().values());
+        return refs;
+    }
+}
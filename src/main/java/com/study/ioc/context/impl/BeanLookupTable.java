@@ -0,0 +1,71 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.Bean;
+
+import java.util.Map;
+
+// Immutable open addressing table over the beans of a completed snapshot: ids, their hashes and
+// instances sit in parallel flat arrays, so a hit is one linear probe without unwrapping a Bean
+// holder and without allocating.
+final class BeanLookupTable {
+    private final String[] ids;
+    private final int[] hashes;
+    private final Object[] instances;
+    private final int mask;
+    private final int shift;
+
+    BeanLookupTable(Map<String, Bean> beans) {
+        int capacity = Integer.highestOneBit(Math.max(2, beans.size() * 2 - 1)) << 1;
+        ids = new String[capacity];
+        hashes = new int[capacity];
+        instances = new Object[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        for (Map.Entry<String, Bean> entry : beans.entrySet()) {
+            Object instance = entry.getValue().getValue();
+            int hash = entry.getKey().hashCode();
+            int index = indexFor(hash);
+            while (ids[index] != null) {
+                index = (index + 1) & mask;
+            }
+            ids[index] = entry.getKey();
+            hashes[index] = hash;
+            instances[index] = instance;
+        }
+    }
+
+    Object get(String beanId) {
+        int index = indexOf(beanId);
+        return index < 0 ? null : instances[index];
+    }
+
+    // Returns the instance only if its class is exactly the given one, which is what a typed lookup by id requires.
+    // The class is read from the instance the caller touches anyway, not from a separate array.
+    Object get(String beanId, Class<?> type) {
+        int index = indexOf(beanId);
+        if (index < 0) {
+            return null;
+        }
+        Object instance = instances[index];
+        return instance.getClass() == type ? instance : null;
+    }
+
+    private int indexOf(String beanId) {
+        int hash = beanId.hashCode();
+        int index = indexFor(hash);
+        String id;
+        while ((id = ids[index]) != null) {
+            if (hashes[index] == hash && (id == beanId || id.equals(beanId))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Fibonacci hashing: generated ids like service1, service2 have consecutive hash codes,
+    // which would otherwise pile up into long probe runs.
+    private int indexFor(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+}
@@ -0,0 +1,165 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.Bean;
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Readers only dereference the current snapshot, writers build a new one under a lock and publish
+// it with a single volatile write, so a lookup never sees a half-registered bean. Deferred
+// definitions and lazy holders are part of the snapshot, so a swap moves them together with the beans.
+class BeanRegistry {
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(new HashMap<>(), new HashMap<>(), new HashMap<>(),
+            new HashMap<>(), 0, false);
+
+    Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    Map<String, Bean> getBeans() {
+        return snapshot.beans;
+    }
+
+    Bean getBean(String beanId) {
+        return snapshot.beans.get(beanId);
+    }
+
+    Object getBeanValue(String beanId) {
+        Snapshot current = snapshot;
+        if (current.lookupTable != null) {
+            return current.lookupTable.get(beanId);
+        }
+        Bean bean = current.beans.get(beanId);
+        return bean == null ? null : bean.getValue();
+    }
+
+    // Null when there is no bean of exactly this class under the id
+    Object getBeanValue(String beanId, Class<?> clazz) {
+        Snapshot current = snapshot;
+        if (current.lookupTable != null) {
+            return current.lookupTable.get(beanId, clazz);
+        }
+        Bean bean = current.beans.get(beanId);
+        return bean == null || bean.getValue().getClass() != clazz ? null : bean.getValue();
+    }
+
+    List<String> getBeanIds(Class<?> clazz) {
+        return snapshot.typeIndex.getBeanIds(clazz);
+    }
+
+    long getVersion() {
+        return snapshot.version;
+    }
+
+    // Takes ownership of the given maps; deferred beans are indexed by declared types before their
+    // instances exist. During startup post processors still swap bean instances, so lookups go
+    // through the Bean holders until publishCompleted.
+    void publish(Map<String, Bean> beans, Map<String, BeanDefinition> deferredBeanDefinitions,
+                 Map<String, LazyBeanHolder> lazyBeans, Map<String, Class<?>> declaredTypes) {
+        publish(beans, deferredBeanDefinitions, lazyBeans, declaredTypes, false);
+    }
+
+    void publishCompleted(Map<String, Bean> beans, Map<String, BeanDefinition> deferredBeanDefinitions,
+                          Map<String, LazyBeanHolder> lazyBeans, Map<String, Class<?>> declaredTypes) {
+        publish(beans, deferredBeanDefinitions, lazyBeans, declaredTypes, true);
+    }
+
+    private void publish(Map<String, Bean> beans, Map<String, BeanDefinition> deferredBeanDefinitions,
+                         Map<String, LazyBeanHolder> lazyBeans, Map<String, Class<?>> declaredTypes, boolean completed) {
+        Map<String, Class<?>> beanTypes = new HashMap<>(declaredTypes);
+        for (Map.Entry<String, Bean> entry : beans.entrySet()) {
+            beanTypes.put(entry.getKey(), entry.getValue().getValue().getClass());
+        }
+        synchronized (writeLock) {
+            snapshot = new Snapshot(beans, beanTypes, deferredBeanDefinitions, lazyBeans, snapshot.version + 1, completed);
+        }
+    }
+
+    // Swaps a group of beans, together with their deferred definitions, in one step;
+    // beans outside the group keep their instances.
+    void replaceBeans(Collection<String> replacedBeanIds, Map<String, Bean> beans,
+                      Map<String, BeanDefinition> deferredBeanDefinitions, Map<String, LazyBeanHolder> lazyBeans,
+                      Map<String, Class<?>> declaredTypes) {
+        synchronized (writeLock) {
+            Map<String, Bean> newBeans = new HashMap<>(snapshot.beans);
+            Map<String, Class<?>> beanTypes = new HashMap<>(snapshot.beanTypes);
+            Map<String, BeanDefinition> newDeferredBeanDefinitions = new HashMap<>(snapshot.deferredBeanDefinitions);
+            Map<String, LazyBeanHolder> newLazyBeans = new HashMap<>(snapshot.lazyBeans);
+            for (String beanId : replacedBeanIds) {
+                newBeans.remove(beanId);
+                beanTypes.remove(beanId);
+                newDeferredBeanDefinitions.remove(beanId);
+                newLazyBeans.remove(beanId);
+            }
+            beanTypes.putAll(declaredTypes);
+            newDeferredBeanDefinitions.putAll(deferredBeanDefinitions);
+            newLazyBeans.putAll(lazyBeans);
+            for (Map.Entry<String, Bean> entry : beans.entrySet()) {
+                newBeans.put(entry.getKey(), entry.getValue());
+                beanTypes.put(entry.getKey(), entry.getValue().getValue().getClass());
+            }
+            snapshot = new Snapshot(newBeans, beanTypes, newDeferredBeanDefinitions, newLazyBeans,
+                    snapshot.version + 1, snapshot.lookupTable != null);
+        }
+    }
+
+    void registerBean(String beanId, Object value) {
+        replaceBeans(List.of(beanId), Map.of(beanId, new Bean(beanId, value)), Map.of(), Map.of(), Map.of());
+    }
+
+    // Returns the removed instance, if the bean was created
+    Object removeBean(String beanId) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (!current.beanTypes.containsKey(beanId)) {
+                return null;
+            }
+            replaceBeans(List.of(beanId), Map.of(), Map.of(), Map.of(), Map.of());
+            Bean removedBean = current.beans.get(beanId);
+            if (removedBean != null) {
+                return removedBean.getValue();
+            }
+            LazyBeanHolder lazyBean = current.lazyBeans.get(beanId);
+            return lazyBean == null ? null : lazyBean.getCreatedValue();
+        }
+    }
+
+    static class Snapshot {
+        private final Map<String, Bean> beans;
+        private final Map<String, Class<?>> beanTypes;
+        private final Map<String, BeanDefinition> deferredBeanDefinitions;
+        private final Map<String, LazyBeanHolder> lazyBeans;
+        private final BeanTypeIndex typeIndex;
+        private final BeanLookupTable lookupTable;
+        private final long version;
+
+        private Snapshot(Map<String, Bean> beans, Map<String, Class<?>> beanTypes,
+                         Map<String, BeanDefinition> deferredBeanDefinitions, Map<String, LazyBeanHolder> lazyBeans,
+                         long version, boolean completed) {
+            this.beans = Collections.unmodifiableMap(beans);
+            this.beanTypes = beanTypes;
+            this.deferredBeanDefinitions = Collections.unmodifiableMap(deferredBeanDefinitions);
+            this.lazyBeans = Collections.unmodifiableMap(lazyBeans);
+            this.typeIndex = new BeanTypeIndex(beanTypes);
+            this.lookupTable = completed ? new BeanLookupTable(beans) : null;
+            this.version = version;
+        }
+
+        Map<String, Bean> getBeans() {
+            return beans;
+        }
+
+        Map<String, BeanDefinition> getDeferredBeanDefinitions() {
+            return deferredBeanDefinitions;
+        }
+
+        Map<String, LazyBeanHolder> getLazyBeans() {
+            return lazyBeans;
+        }
+    }
+}
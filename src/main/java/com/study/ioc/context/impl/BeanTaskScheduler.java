@@ -0,0 +1,116 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+class BeanTaskScheduler {
+    private final Executor executor;
+
+    BeanTaskScheduler(Executor executor) {
+        this.executor = executor;
+    }
+
+    void runAll(Collection<String> beanIds, Consumer<String> task) {
+        if (executor == null) {
+            beanIds.forEach(task);
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(beanIds.size());
+        for (String beanId : beanIds) {
+            futures.add(CompletableFuture.runAsync(() -> task.accept(beanId), executor));
+        }
+        await(futures);
+    }
+
+    // Splits the items into disjoint slices so a large number of small tasks
+    // does not cost one future each.
+    <T> void runPartitioned(List<T> items, Consumer<List<T>> task) {
+        if (executor == null || items.size() < 2) {
+            task.accept(items);
+            return;
+        }
+        int partitionCount = Math.min(items.size(), Runtime.getRuntime().availableProcessors() * 4);
+        int partitionSize = (items.size() + partitionCount - 1) / partitionCount;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitionCount);
+        for (int start = 0; start < items.size(); start += partitionSize) {
+            List<T> partition = items.subList(start, Math.min(items.size(), start + partitionSize));
+            futures.add(CompletableFuture.runAsync(() -> task.accept(partition), executor));
+        }
+        await(futures);
+    }
+
+    void runInDependencyOrder(Map<String, Set<String>> dependencies, Consumer<String> task) {
+        List<String> order = sortByDependencies(dependencies);
+        if (executor == null) {
+            order.forEach(task);
+            return;
+        }
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (String beanId : order) {
+            CompletableFuture<?>[] dependencyFutures = dependencies.get(beanId).stream()
+                    .map(futures::get)
+                    .filter(future -> future != null)
+                    .toArray(CompletableFuture[]::new);
+            futures.put(beanId, CompletableFuture.allOf(dependencyFutures)
+                    .thenRunAsync(() -> task.accept(beanId), executor));
+        }
+        await(futures.values());
+    }
+
+    // Dependencies are visited before dependents; an edge back into a bean that is still being
+    // visited belongs to a setter cycle and is ignored, as setter injection has already resolved it.
+    private List<String> sortByDependencies(Map<String, Set<String>> dependencies) {
+        List<String> order = new ArrayList<>(dependencies.size());
+        Set<String> visited = new HashSet<>();
+        Deque<Map.Entry<String, Iterator<String>>> stack = new ArrayDeque<>();
+        for (String rootId : dependencies.keySet()) {
+            if (!visited.add(rootId)) {
+                continue;
+            }
+            stack.push(Map.entry(rootId, dependencies.get(rootId).iterator()));
+            while (!stack.isEmpty()) {
+                Map.Entry<String, Iterator<String>> current = stack.peek();
+                Iterator<String> iterator = current.getValue();
+                if (iterator.hasNext()) {
+                    String dependencyId = iterator.next();
+                    if (dependencies.containsKey(dependencyId) && visited.add(dependencyId)) {
+                        stack.push(Map.entry(dependencyId, dependencies.get(dependencyId).iterator()));
+                    }
+                } else {
+                    stack.pop();
+                    order.add(current.getKey());
+                }
+            }
+        }
+        return order;
+    }
+
+    private void await(Collection<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new BeanInstantiationException("Can`t create beans", cause);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.ioc.context.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class BeanTypeIndex {
+    private final Map<Class<?>, List<String>> beanIdsByType = new HashMap<>();
+
+    BeanTypeIndex(Map<String, Class<?>> beanTypes) {
+        for (Map.Entry<String, Class<?>> entry : beanTypes.entrySet()) {
+            addBean(entry.getKey(), entry.getValue());
+        }
+    }
+
+    List<String> getBeanIds(Class<?> clazz) {
+        return beanIdsByType.getOrDefault(clazz, List.of());
+    }
+
+    private void addBean(String beanId, Class<?> beanClass) {
+        Set<Class<?>> types = new HashSet<>();
+        collectTypes(beanClass, types);
+        for (Class<?> type : types) {
+            beanIdsByType.computeIfAbsent(type, key -> new ArrayList<>(1)).add(beanId);
+        }
+    }
+
+    private void collectTypes(Class<?> clazz, Set<Class<?>> types) {
+        if (clazz == null || !types.add(clazz)) {
+            return;
+        }
+        collectTypes(clazz.getSuperclass(), types);
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            collectTypes(interfaceClass, types);
+        }
+    }
+}
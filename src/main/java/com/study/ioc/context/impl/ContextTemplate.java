@@ -0,0 +1,41 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.context.ContextOptions;
+import com.study.ioc.reader.BeanDefinitionReader;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+// Starts a context once and keeps its processed bean definitions and injection plans, so every fork
+// only replays instantiation. Shared beans are the template's own instances, handed to every fork
+// that asks for them, so they should be immutable or at least thread safe.
+public class ContextTemplate {
+    @Getter
+    private final GenericApplicationContext templateContext;
+    private final ContextOptions contextOptions;
+    private final Map<String, InjectionPlan> injectionPlans;
+
+    public ContextTemplate(String... paths) {
+        this(new XmlBeanDefinitionReader(paths));
+    }
+
+    public ContextTemplate(BeanDefinitionReader definitionReader) {
+        this(definitionReader, ContextOptions.defaults());
+    }
+
+    public ContextTemplate(BeanDefinitionReader definitionReader, ContextOptions contextOptions) {
+        this.templateContext = new GenericApplicationContext(definitionReader, contextOptions);
+        this.contextOptions = contextOptions;
+        this.injectionPlans = templateContext.createInjectionPlans();
+    }
+
+    public GenericApplicationContext fork() {
+        return fork(Set.of());
+    }
+
+    public GenericApplicationContext fork(Set<String> sharedBeanIds) {
+        return new GenericApplicationContext(templateContext, injectionPlans, sharedBeanIds, contextOptions);
+    }
+}
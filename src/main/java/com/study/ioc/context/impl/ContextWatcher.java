@@ -0,0 +1,125 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.exception.ContextReloadException;
+import com.study.ioc.reader.ContextResource;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import lombok.Setter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Watches the files of an XmlBeanDefinitionReader and refreshes the context when one of them changes.
+// Editors usually write a file in several steps, so events are collected for a short while before
+// the files are read again; a reload that fails to parse keeps the current beans.
+public class ContextWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 50;
+
+    private final GenericApplicationContext context;
+    private final XmlBeanDefinitionReader definitionReader;
+    private final WatchService watchService;
+    private final Map<WatchKey, Set<Path>> watchedFiles = new HashMap<>();
+    private final Thread watchThread;
+    @Setter
+    private Consumer<Set<String>> reloadListener = beanIds -> {
+    };
+    @Setter
+    private Consumer<RuntimeException> errorHandler = exception -> {
+    };
+
+    public ContextWatcher(GenericApplicationContext context, XmlBeanDefinitionReader definitionReader) {
+        this.context = context;
+        this.definitionReader = definitionReader;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            Map<Path, Set<Path>> filesByDirectory = new HashMap<>();
+            for (String path : definitionReader.getPaths()) {
+                Path file = getFile(path);
+                filesByDirectory.computeIfAbsent(file.getParent(), directory -> new HashSet<>()).add(file.getFileName());
+            }
+            for (Map.Entry<Path, Set<Path>> entry : filesByDirectory.entrySet()) {
+                WatchKey watchKey = entry.getKey().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedFiles.put(watchKey, entry.getValue());
+            }
+        } catch (IOException exception) {
+            throw new ContextReloadException("Can`t watch context files", exception);
+        }
+        watchThread = new Thread(this::watch, "context-watcher");
+        watchThread.setDaemon(true);
+    }
+
+    public ContextWatcher start() {
+        watchThread.start();
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchThread.interrupt();
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = pollChanges(watchService.take());
+                if (changed) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    WatchKey watchKey;
+                    while ((watchKey = watchService.poll()) != null) {
+                        pollChanges(watchKey);
+                    }
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean pollChanges(WatchKey watchKey) {
+        Set<Path> files = watchedFiles.getOrDefault(watchKey, Set.of());
+        boolean changed = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || files.contains((Path) event.context())) {
+                changed = true;
+            }
+        }
+        watchKey.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            reloadListener.accept(context.refresh(definitionReader.getBeanDefinition()));
+        } catch (RuntimeException exception) {
+            errorHandler.accept(exception);
+        }
+    }
+
+    private static Path getFile(String path) {
+        URL resource = ContextResource.locate(path);
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            throw new ContextReloadException("Can`t watch context " + path);
+        }
+        try {
+            return Path.of(resource.toURI()).toAbsolutePath();
+        } catch (URISyntaxException exception) {
+            throw new ContextReloadException("Can`t watch context " + path, exception);
+        }
+    }
+}
@@ -1,38 +1,111 @@
 package com.study.ioc.context.impl;
 
+import com.study.ioc.accessor.BeanAccessorFactory;
+import com.study.ioc.accessor.LambdaBeanAccessorFactory;
 import com.study.ioc.context.ApplicationContext;
+import com.study.ioc.context.ContextOptions;
+import com.study.ioc.convert.ConversionService;
 import com.study.ioc.entity.Bean;
 import com.study.ioc.entity.BeanDefinition;
 import com.study.ioc.exception.BeanInstantiationException;
+import com.study.ioc.graph.Dependency;
+import com.study.ioc.graph.DependencyGraph;
 import com.study.ioc.exception.NoSuchBeanDefinitionException;
 import com.study.ioc.exception.NoUniqueBeanOfTypeException;
 import com.study.ioc.exception.ProcessPostConstructException;
+import com.study.ioc.metrics.LookupKind;
+import com.study.ioc.metrics.LookupMetrics;
 import com.study.ioc.processor.BeanFactoryPostProcessor;
 import com.study.ioc.processor.BeanPostProcessor;
+import com.study.ioc.processor.IndependentBeanFactoryPostProcessor;
+import com.study.ioc.processor.Ordered;
+import com.study.ioc.property.BeanProperty;
+import com.study.ioc.property.BeanPropertyCache;
 import com.study.ioc.reader.BeanDefinitionReader;
 import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import com.study.ioc.scope.PooledScope;
+import com.study.ioc.scope.PrototypeScope;
+import com.study.ioc.scope.RequestScope;
+import com.study.ioc.scope.Scope;
+import com.study.ioc.scope.ThreadScope;
+import com.study.ioc.startup.StartupPhase;
+import com.study.ioc.startup.StartupTracker;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 
 import javax.annotation.PostConstruct;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Setter
 @Getter
-public class GenericApplicationContext implements ApplicationContext {
+public class GenericApplicationContext implements ApplicationContext, AutoCloseable {
 
-    private Map<String, Bean> beanMap = new HashMap<>();
-    private Map<String, Bean> beanPostProcessorsMap = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final BeanRegistry beanRegistry = new BeanRegistry();
+    // Published as an immutable snapshot, like the beans of the registry
+    private volatile Map<String, Bean> beanPostProcessorsMap = Map.of();
     private List<BeanFactoryPostProcessor> beanFactoryPostProcessors = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private BeanPropertyCache beanPropertyCache = BeanPropertyCache.getDefault();
+    private BeanAccessorFactory beanAccessorFactory = LambdaBeanAccessorFactory.getDefault();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ConversionService conversionService = ConversionService.getDefault();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private BeanTaskScheduler beanTaskScheduler = new BeanTaskScheduler(null);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, InjectionPlan> injectionPlans = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, Scope> scopes = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, BeanDefinition> activeBeanDefinitions = new HashMap<>();
+    // Beans put in by registerBean win over definitions of the same id until they are removed
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Set<String> registeredBeanIds = Set.of();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean defaultLazyInit;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private StartupTracker startupTracker = new StartupTracker(List.of());
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private LookupMetrics lookupMetrics;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile PostProcessorChains postProcessorChains;
+    @Setter(AccessLevel.NONE)
+    private Set<String> modifiedBeanDefinitionIds = Set.of();
+    @Setter(AccessLevel.NONE)
+    private DependencyGraph dependencyGraph;
+    @Setter(AccessLevel.NONE)
+    private ApplicationContext parent;
 
     GenericApplicationContext() {
     }
@@ -42,85 +115,469 @@ public class GenericApplicationContext implements ApplicationContext {
     }
 
     public GenericApplicationContext(BeanDefinitionReader definitionReader) {
-        Map<String, BeanDefinition> beanDefinitions = definitionReader.getBeanDefinition();
+        this(definitionReader, ContextOptions.defaults());
+    }
 
-        createBeanPostProcessors(beanDefinitions);
-        processBeanDefinitions(beanDefinitions);
-        beanMap = createBeans(beanDefinitions);
-        injectValueDependencies(beanDefinitions, beanMap);
-        injectRefDependencies(beanDefinitions, beanMap);
-        processBeansBeforeInitialization(beanMap);
-        initializeBeans(beanMap);
-        processBeansAfterInitialization(beanMap);
+    public GenericApplicationContext(BeanDefinitionReader definitionReader, ContextOptions contextOptions) {
+        applyContextOptions(contextOptions);
+        Map<String, BeanDefinition> allBeanDefinitions =
+                startupTracker.trackPhase(StartupPhase.READ_BEAN_DEFINITIONS, definitionReader::getBeanDefinition);
+
+        startupTracker.trackPhase(StartupPhase.CREATE_BEAN_POST_PROCESSORS,
+                () -> createBeanPostProcessors(allBeanDefinitions));
+        startupTracker.trackPhase(StartupPhase.PROCESS_BEAN_DEFINITIONS, () -> processBeanDefinitions(allBeanDefinitions));
+        dependencyGraph = startupTracker.trackPhase(StartupPhase.VALIDATE_DEPENDENCIES,
+                () -> validateDependencies(allBeanDefinitions));
+        activeBeanDefinitions = removeInheritedBeanDefinitions(allBeanDefinitions);
+        Map<String, BeanDefinition> deferredBeanDefinitions = new HashMap<>();
+        Map<String, LazyBeanHolder> lazyBeans = new HashMap<>();
+        Map<String, BeanDefinition> beanDefinitions = separateDeferredBeanDefinitions(activeBeanDefinitions,
+                defaultLazyInit, deferredBeanDefinitions, lazyBeans);
+        beanRegistry.publish(new HashMap<>(), deferredBeanDefinitions, lazyBeans, Map.of());
+        Map<String, Bean> beanMap = startupTracker.trackPhase(StartupPhase.CREATE_BEANS, () -> createBeans(beanDefinitions));
+        beanRegistry.publish(beanMap, deferredBeanDefinitions, lazyBeans, Map.of());
+        startupTracker.trackPhase(StartupPhase.INJECT_VALUE_DEPENDENCIES,
+                () -> injectValueDependencies(beanDefinitions, beanMap));
+        startupTracker.trackPhase(StartupPhase.INJECT_REF_DEPENDENCIES,
+                () -> injectRefDependencies(beanDefinitions, beanMap));
+        startupTracker.trackPhase(StartupPhase.PROCESS_BEANS_BEFORE_INITIALIZATION,
+                () -> processBeansBeforeInitialization(beanMap));
+        startupTracker.trackPhase(StartupPhase.INITIALIZE_BEANS, () -> initializeBeans(beanMap, beanDefinitions));
+        startupTracker.trackPhase(StartupPhase.PROCESS_BEANS_AFTER_INITIALIZATION,
+                () -> processBeansAfterInitialization(beanMap));
+        beanRegistry.publishCompleted(beanMap, deferredBeanDefinitions, lazyBeans,
+                getBeanTypes(deferredBeanDefinitions.values()));
+        // Deferred beans and refreshes go through the same steps, they aren't part of the startup
+        startupTracker = StartupTracker.disabled();
+    }
+
+    // Replays the startup of a template context from its processed definitions and injection plans:
+    // nothing is read, post processed, validated or looked up reflectively again. Shared beans are
+    // the template's instances and are neither post processed nor initialized a second time.
+    GenericApplicationContext(GenericApplicationContext template, Map<String, InjectionPlan> templateInjectionPlans,
+                              Set<String> sharedBeanIds, ContextOptions contextOptions) {
+        applyContextOptions(contextOptions);
+        beanAccessorFactory = template.beanAccessorFactory;
+        beanPropertyCache = template.beanPropertyCache;
+        beanFactoryPostProcessors = new ArrayList<>(template.beanFactoryPostProcessors);
+        modifiedBeanDefinitionIds = template.modifiedBeanDefinitionIds;
+        dependencyGraph = template.dependencyGraph;
+        activeBeanDefinitions = template.activeBeanDefinitions;
+        injectionPlans.putAll(templateInjectionPlans);
+        Map<String, Bean> beanPostProcessors = new HashMap<>();
+        for (Bean beanPostProcessor : template.beanPostProcessorsMap.values()) {
+            Object processor = beanAccessorFactory.getConstructor(beanPostProcessor.getValue().getClass()).get();
+            beanPostProcessors.put(beanPostProcessor.getId(), new Bean(beanPostProcessor.getId(), processor));
+        }
+        setBeanPostProcessorsMap(beanPostProcessors);
+
+        Map<String, Bean> allBeans = new HashMap<>();
+        Map<String, BeanDefinition> ownBeanDefinitions = new HashMap<>(activeBeanDefinitions);
+        for (String beanId : sharedBeanIds) {
+            BeanDefinition beanDefinition = ownBeanDefinitions.remove(beanId);
+            if (beanDefinition == null || isScoped(beanDefinition)) {
+                throw new BeanInstantiationException("Can`t share bean " + beanId + ", only singletons of the template can be shared");
+            }
+            allBeans.put(beanId, new Bean(beanId, template.getBeanValue(beanId)));
+        }
+        Map<String, BeanDefinition> deferredBeanDefinitions = new HashMap<>();
+        Map<String, LazyBeanHolder> lazyBeans = new HashMap<>();
+        Map<String, BeanDefinition> beanDefinitions = separateDeferredBeanDefinitions(ownBeanDefinitions,
+                defaultLazyInit, deferredBeanDefinitions, lazyBeans);
+        beanRegistry.publish(new HashMap<>(allBeans), deferredBeanDefinitions, lazyBeans, Map.of());
+        Map<String, Bean> beanMap = startupTracker.trackPhase(StartupPhase.CREATE_BEANS, () -> createBeans(beanDefinitions,
+                (beanDefinition, refResolver) -> getInjectionPlan(beanDefinition).instantiateWithValues(refResolver),
+                this::getBeanValue));
+        allBeans.putAll(beanMap);
+        beanRegistry.publish(new HashMap<>(allBeans), deferredBeanDefinitions, lazyBeans, Map.of());
+        startupTracker.trackPhase(StartupPhase.INJECT_REF_DEPENDENCIES, () -> beanMap.forEach((beanId, bean) ->
+                startupTracker.trackBean(StartupPhase.INJECT_REF_DEPENDENCIES, beanId, () -> getInjectionPlan(
+                        beanDefinitions.get(beanId)).injectRefs(bean.getValue(), this::getBeanValue))));
+        startupTracker.trackPhase(StartupPhase.PROCESS_BEANS_BEFORE_INITIALIZATION,
+                () -> processBeansBeforeInitialization(beanMap));
+        startupTracker.trackPhase(StartupPhase.INITIALIZE_BEANS, () -> initializeBeans(beanMap, beanDefinitions));
+        startupTracker.trackPhase(StartupPhase.PROCESS_BEANS_AFTER_INITIALIZATION,
+                () -> processBeansAfterInitialization(beanMap));
+        allBeans.putAll(beanMap);
+        beanRegistry.publishCompleted(allBeans, deferredBeanDefinitions, lazyBeans,
+                getBeanTypes(deferredBeanDefinitions.values()));
+        startupTracker = StartupTracker.disabled();
+    }
+
+    private void applyContextOptions(ContextOptions contextOptions) {
+        beanTaskScheduler = new BeanTaskScheduler(contextOptions.getExecutor());
+        scopes.put(PrototypeScope.NAME, new PrototypeScope());
+        scopes.put(PooledScope.NAME, new PooledScope());
+        scopes.put(ThreadScope.NAME, new ThreadScope());
+        scopes.put(RequestScope.NAME, new RequestScope());
+        scopes.putAll(contextOptions.getScopes());
+        defaultLazyInit = contextOptions.isDefaultLazyInit();
+        startupTracker = new StartupTracker(contextOptions.getStartupListeners());
+        lookupMetrics = contextOptions.getLookupMetrics();
+        parent = contextOptions.getParent();
+        if (contextOptions.getConversionService() != null) {
+            conversionService = contextOptions.getConversionService();
+        }
     }
 
     @Override
     public Object getBean(String beanId) {
-        if (beanMap.containsKey(beanId)) {
-            return beanMap.get(beanId).getValue();
+        if (lookupMetrics == null) {
+            return getBeanValue(beanId);
+        }
+        long start = System.nanoTime();
+        Object bean = null;
+        try {
+            bean = getBeanValue(beanId);
+            return bean;
+        } finally {
+            lookupMetrics.record(LookupKind.BY_ID, beanId, System.nanoTime() - start, bean != null);
         }
-        return null;
     }
 
     @Override
     public <T> T getBean(Class<T> clazz) {
-        T beanValue = null;
-        for (Map.Entry<String, Bean> entry : beanMap.entrySet()) {
-            Bean bean = entry.getValue();
-            if (clazz.isAssignableFrom(bean.getValue().getClass())) {
-                if (beanValue != null) {
-                    throw new NoUniqueBeanOfTypeException("No unique bean of type" + clazz.getName());
-                }
-                beanValue = clazz.cast(bean.getValue());
-            }
+        if (lookupMetrics == null) {
+            return getBeanOfType(clazz);
+        }
+        long start = System.nanoTime();
+        T bean = null;
+        try {
+            bean = getBeanOfType(clazz);
+            return bean;
+        } finally {
+            lookupMetrics.record(LookupKind.BY_TYPE, clazz.getName(), System.nanoTime() - start, bean != null);
         }
-        return beanValue;
     }
 
     @Override
     public <T> T getBean(String id, Class<T> clazz) {
+        if (lookupMetrics == null) {
+            return getBeanOfIdAndType(id, clazz);
+        }
+        long start = System.nanoTime();
+        T bean = null;
+        try {
+            bean = getBeanOfIdAndType(id, clazz);
+            return bean;
+        } finally {
+            lookupMetrics.record(LookupKind.BY_ID_AND_TYPE, id, System.nanoTime() - start, bean != null);
+        }
+    }
+
+    private Object getBeanValue(String beanId) {
+        Object value = beanRegistry.getBeanValue(beanId);
+        if (value != null) {
+            return value;
+        }
+        Bean bean = findBean(beanId);
+        if (bean != null) {
+            return bean.getValue();
+        }
+        return parent == null ? null : parent.getBean(beanId);
+    }
+
+    private <T> T getBeanOfType(Class<T> clazz) {
+        List<String> beanIds = beanRegistry.getBeanIds(clazz);
+        if (beanIds.isEmpty()) {
+            return parent == null ? null : parent.getBean(clazz);
+        }
+        if (beanIds.size() > 1) {
+            throw new NoUniqueBeanOfTypeException("No unique bean of type" + clazz.getName());
+        }
+        return clazz.cast(getBeanValue(beanIds.get(0)));
+    }
+
+    private <T> T getBeanOfIdAndType(String id, Class<T> clazz) {
+        Object value = beanRegistry.getBeanValue(id, clazz);
+        if (value != null) {
+            return clazz.cast(value);
+        }
+        Bean bean = findBean(id);
+        if (bean == null && parent != null) {
+            return parent.getBean(id, clazz);
+        }
         Class<?> beanClass = null;
-        if (beanMap.containsKey(id)) {
-            Bean bean = beanMap.get(id);
+        if (bean != null) {
             beanClass = bean.getValue().getClass();
             if (Objects.equals(clazz, beanClass)) {
                 return clazz.cast(bean.getValue());
             }
         }
-        throw new NoSuchBeanDefinitionException(id, clazz.getName(), beanClass.getName());
+        throw new NoSuchBeanDefinitionException(id, clazz.getName(), beanClass == null ? null : beanClass.getName());
     }
 
     @Override
     public List<String> getBeanNames() {
-        return new ArrayList<>(beanMap.keySet());
+        BeanRegistry.Snapshot snapshot = beanRegistry.getSnapshot();
+        Map<String, Bean> beans = snapshot.getBeans();
+        Map<String, BeanDefinition> deferredBeanDefinitions = snapshot.getDeferredBeanDefinitions();
+        List<String> beanNames = new ArrayList<>(beans.keySet());
+        for (String deferredBeanId : deferredBeanDefinitions.keySet()) {
+            if (!beans.containsKey(deferredBeanId)) {
+                beanNames.add(deferredBeanId);
+            }
+        }
+        if (parent != null) {
+            for (String parentBeanId : parent.getBeanNames()) {
+                if (!beans.containsKey(parentBeanId) && !deferredBeanDefinitions.containsKey(parentBeanId)) {
+                    beanNames.add(parentBeanId);
+                }
+            }
+        }
+        return beanNames;
+    }
+
+    @Override
+    public boolean containsBean(String beanId) {
+        BeanRegistry.Snapshot snapshot = beanRegistry.getSnapshot();
+        return snapshot.getBeans().containsKey(beanId) || snapshot.getDeferredBeanDefinitions().containsKey(beanId)
+                || parent != null && parent.containsBean(beanId);
+    }
+
+    public Map<String, Bean> getBeanMap() {
+        return beanRegistry.getBeans();
+    }
+
+    public void releaseBean(String beanId, Object bean) {
+        BeanDefinition beanDefinition = beanRegistry.getSnapshot().getDeferredBeanDefinitions().get(beanId);
+        if (beanDefinition != null && isScoped(beanDefinition)) {
+            scopes.get(beanDefinition.getScope()).release(beanDefinition, bean);
+        }
+    }
+
+    // Lets the scopes drop what they keep, like the beans of every thread of the thread scope
+    @Override
+    public void close() {
+        for (Scope scope : scopes.values()) {
+            scope.close();
+        }
+    }
+
+    // Definitions are kept in step with the registry, so a refresh sees what is live: it leaves a
+    // registered bean in place and creates a removed bean again if a definition still declares it.
+    public synchronized void registerBean(String beanId, Object bean) {
+        injectionPlans.remove(beanId);
+        activeBeanDefinitions = withoutBeanDefinition(activeBeanDefinitions, beanId);
+        Set<String> beanIds = new HashSet<>(registeredBeanIds);
+        beanIds.add(beanId);
+        registeredBeanIds = Set.copyOf(beanIds);
+        beanRegistry.registerBean(beanId, bean);
+    }
+
+    public synchronized Object removeBean(String beanId) {
+        injectionPlans.remove(beanId);
+        activeBeanDefinitions = withoutBeanDefinition(activeBeanDefinitions, beanId);
+        Set<String> beanIds = new HashSet<>(registeredBeanIds);
+        beanIds.remove(beanId);
+        registeredBeanIds = Set.copyOf(beanIds);
+        return beanRegistry.removeBean(beanId);
+    }
+
+    // Kept for callers of the setter the context had before the registry; the beans count as registered
+    @Deprecated
+    public synchronized void setBeanMap(Map<String, Bean> beanMap) {
+        injectionPlans.clear();
+        activeBeanDefinitions = Map.of();
+        registeredBeanIds = Set.copyOf(beanMap.keySet());
+        setBeans(new HashMap<>(beanMap));
+    }
+
+    // Forked contexts share the map of their template, so it is copied rather than changed
+    private static Map<String, BeanDefinition> withoutBeanDefinition(Map<String, BeanDefinition> beanDefinitions,
+                                                                     String beanId) {
+        if (!beanDefinitions.containsKey(beanId)) {
+            return beanDefinitions;
+        }
+        Map<String, BeanDefinition> remainingBeanDefinitions = new HashMap<>(beanDefinitions);
+        remainingBeanDefinitions.remove(beanId);
+        return remainingBeanDefinitions;
+    }
+
+    // Recreates only the beans whose definitions changed and their dependents, builds them
+    // aside and swaps them into the registry in one step. Post processors are not reloaded.
+    public synchronized Set<String> refresh(Map<String, BeanDefinition> allBeanDefinitions) {
+        processBeanDefinitions(allBeanDefinitions);
+        DependencyGraph refreshedDependencyGraph = validateDependencies(allBeanDefinitions);
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>(removeInheritedBeanDefinitions(allBeanDefinitions));
+        beanDefinitions.keySet().removeAll(registeredBeanIds);
+        BeanDefinitionDiff beanDefinitionDiff = new BeanDefinitionDiff(activeBeanDefinitions, beanDefinitions);
+        if (beanDefinitionDiff.isEmpty()) {
+            activeBeanDefinitions = beanDefinitions;
+            dependencyGraph = refreshedDependencyGraph;
+            return Set.of();
+        }
+        Set<String> affectedBeanIds = beanDefinitionDiff.getAffectedBeanIds();
+        Map<String, BeanDefinition> affectedBeanDefinitions = new HashMap<>();
+        for (String beanId : affectedBeanIds) {
+            affectedBeanDefinitions.put(beanId, beanDefinitions.get(beanId));
+        }
+
+        // Nothing live is touched until the swap: new deferred definitions and lazy holders are
+        // collected aside, and refs between refreshed beans resolve against them.
+        Map<String, BeanDefinition> deferredBeanDefinitions = new HashMap<>();
+        Map<String, LazyBeanHolder> lazyBeans = new HashMap<>();
+        Map<String, Bean> refreshedBeans = new HashMap<>();
+        Function<String, Object> refResolver = refBeanId ->
+                resolveRefreshedRef(refBeanId, refreshedBeans, deferredBeanDefinitions, lazyBeans);
+        Map<String, BeanDefinition> eagerBeanDefinitions = separateDeferredBeanDefinitions(affectedBeanDefinitions,
+                defaultLazyInit, deferredBeanDefinitions, lazyBeans);
+        Map<String, Bean> beanMap = createBeans(eagerBeanDefinitions, this::createBeanObject, refResolver);
+        refreshedBeans.putAll(beanMap);
+        injectValueDependencies(eagerBeanDefinitions, beanMap);
+        injectRefDependencies(eagerBeanDefinitions, beanMap, refResolver);
+        processBeansBeforeInitialization(beanMap);
+        initializeBeans(beanMap, eagerBeanDefinitions);
+        processBeansAfterInitialization(beanMap);
+
+        Set<String> replacedBeanIds = new HashSet<>(affectedBeanIds);
+        replacedBeanIds.addAll(beanDefinitionDiff.getRemovedBeanIds());
+        Map<String, BeanDefinition> previousDeferredBeanDefinitions = beanRegistry.getSnapshot().getDeferredBeanDefinitions();
+        beanRegistry.replaceBeans(replacedBeanIds, beanMap, deferredBeanDefinitions, lazyBeans,
+                getBeanTypes(deferredBeanDefinitions.values()));
+        for (String beanId : replacedBeanIds) {
+            injectionPlans.remove(beanId);
+            BeanDefinition previousBeanDefinition = previousDeferredBeanDefinitions.get(beanId);
+            if (previousBeanDefinition != null && isScoped(previousBeanDefinition)) {
+                scopes.get(previousBeanDefinition.getScope()).remove(previousBeanDefinition);
+            }
+        }
+        activeBeanDefinitions = beanDefinitions;
+        dependencyGraph = refreshedDependencyGraph;
+        return affectedBeanIds;
+    }
+
+    private Object resolveRefreshedRef(String beanId, Map<String, Bean> refreshedBeans,
+                                       Map<String, BeanDefinition> deferredBeanDefinitions,
+                                       Map<String, LazyBeanHolder> lazyBeans) {
+        Bean bean = refreshedBeans.get(beanId);
+        if (bean == null) {
+            bean = findDeferredBean(beanId, deferredBeanDefinitions, lazyBeans,
+                    refBeanId -> resolveRefreshedRef(refBeanId, refreshedBeans, deferredBeanDefinitions, lazyBeans));
+        }
+        return bean == null ? getBeanValue(beanId) : bean.getValue();
+    }
+
+    // Fails before any bean is created when a ref points to no bean or constructor arguments form a cycle;
+    // setter cycles are fine, as all beans exist before refs are injected.
+    DependencyGraph validateDependencies(Map<String, BeanDefinition> beanDefinitionMap) {
+        DependencyGraph graph = DependencyGraph.of(beanDefinitionMap);
+        for (Dependency dependency : graph.getDanglingDependencies()) {
+            if (!registeredBeanIds.contains(dependency.getRefBeanId())
+                    && (parent == null || !parent.containsBean(dependency.getRefBeanId()))) {
+                throw new BeanInstantiationException("No bean " + dependency.getRefBeanId() + " referenced by "
+                        + DependencyGraph.formatPath(List.of(dependency)));
+            }
+        }
+        List<List<Dependency>> constructorCycles = graph.getConstructorCycles();
+        if (!constructorCycles.isEmpty()) {
+            List<Dependency> cycle = constructorCycles.get(0);
+            throw new BeanInstantiationException("Circular constructor reference to bean " + cycle.get(0).getBeanId()
+                    + ": " + DependencyGraph.formatPath(cycle));
+        }
+        return graph;
+    }
+
+    // A definition the parent context has in the same form, with all its refs inherited as well,
+    // is left to the parent: lookups fall through to the parent's bean instead of creating a copy.
+    Map<String, BeanDefinition> removeInheritedBeanDefinitions(Map<String, BeanDefinition> beanDefinitionMap) {
+        if (!(parent instanceof GenericApplicationContext parentContext)) {
+            return beanDefinitionMap;
+        }
+        Map<String, BeanDefinition> parentBeanDefinitions = parentContext.getVisibleBeanDefinitions();
+        Map<String, BeanDefinition> comparedBeanDefinitions = new HashMap<>();
+        for (String beanId : beanDefinitionMap.keySet()) {
+            BeanDefinition parentBeanDefinition = parentBeanDefinitions.get(beanId);
+            if (parentBeanDefinition != null) {
+                comparedBeanDefinitions.put(beanId, parentBeanDefinition);
+            }
+        }
+        Set<String> ownBeanIds = new BeanDefinitionDiff(comparedBeanDefinitions, beanDefinitionMap).getAffectedBeanIds();
+        if (ownBeanIds.size() == beanDefinitionMap.size()) {
+            return beanDefinitionMap;
+        }
+        Map<String, BeanDefinition> ownBeanDefinitions = new HashMap<>();
+        for (String beanId : ownBeanIds) {
+            ownBeanDefinitions.put(beanId, beanDefinitionMap.get(beanId));
+        }
+        return ownBeanDefinitions;
+    }
+
+    private Map<String, BeanDefinition> getVisibleBeanDefinitions() {
+        Map<String, BeanDefinition> visibleBeanDefinitions = parent instanceof GenericApplicationContext parentContext
+                ? parentContext.getVisibleBeanDefinitions() : new HashMap<>();
+        visibleBeanDefinitions.putAll(activeBeanDefinitions);
+        return visibleBeanDefinitions;
+    }
+
+    // Resolves an injection plan for every bean this context defines, for contexts forked from it.
+    Map<String, InjectionPlan> createInjectionPlans() {
+        for (BeanDefinition beanDefinition : activeBeanDefinitions.values()) {
+            getInjectionPlan(beanDefinition);
+        }
+        return Map.copyOf(injectionPlans);
     }
 
     Map<String, Bean> createBeans(Map<String, BeanDefinition> beanDefinitionMap) {
-        for (Map.Entry<String, BeanDefinition> beanDefinition : beanDefinitionMap.entrySet()) {
-            Object beanObject;
-            String key = beanDefinition.getKey();
-            try {
-                beanObject = Class.forName(beanDefinition.getValue().getClassName()).getConstructor().newInstance();
-            } catch (InstantiationException | IllegalAccessException | ClassNotFoundException |
-                     NoSuchMethodException | InvocationTargetException exception) {
-                throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+        return createBeans(beanDefinitionMap, this::createBeanObject, this::getBeanValue);
+    }
+
+    private Map<String, Bean> createBeans(Map<String, BeanDefinition> beanDefinitionMap,
+                                          BiFunction<BeanDefinition, Function<String, Object>, Object> beanFactory,
+                                          Function<String, Object> otherRefResolver) {
+        Map<String, Bean> beanMap = new HashMap<>();
+        Map<String, Object> beanObjects = new ConcurrentHashMap<>();
+        Function<String, Object> refResolver = refBeanId -> {
+            Object refBean = beanObjects.get(refBeanId);
+            if (refBean != null) {
+                return refBean;
             }
-            Bean bean = new Bean(key, beanObject);
+            if (beanDefinitionMap.containsKey(refBeanId)) {
+                throw new BeanInstantiationException("Circular constructor reference to bean " + refBeanId);
+            }
+            return otherRefResolver.apply(refBeanId);
+        };
+        Consumer<String> createBean = beanId -> beanObjects.put(beanId, startupTracker.trackBean(
+                StartupPhase.CREATE_BEANS, beanId, () -> beanFactory.apply(beanDefinitionMap.get(beanId), refResolver)));
+
+        Map<String, Set<String>> constructorDependencies = new LinkedHashMap<>();
+        boolean hasConstructorRefs = false;
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitionMap.entrySet()) {
+            Set<String> constructorRefs = BeanDependencies.getConstructorRefs(entry.getValue());
+            hasConstructorRefs |= !constructorRefs.isEmpty();
+            constructorDependencies.put(entry.getKey(), constructorRefs);
+        }
+        if (hasConstructorRefs) {
+            beanTaskScheduler.runInDependencyOrder(constructorDependencies, createBean);
+        } else {
+            beanTaskScheduler.runAll(beanDefinitionMap.keySet(), createBean);
+        }
+        for (String key : beanDefinitionMap.keySet()) {
+            Bean bean = new Bean(key, beanObjects.get(key));
             beanMap.put(key, bean);
         }
         return beanMap;
     }
 
     public void injectRefDependencies(Map<String, BeanDefinition> beanDefinitions, Map<String, Bean> beans) {
+        injectRefDependencies(beanDefinitions, beans, this::getBeanValue);
+    }
+
+    private void injectRefDependencies(Map<String, BeanDefinition> beanDefinitions, Map<String, Bean> beans,
+                                       Function<String, Object> otherRefResolver) {
         for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
             String key = entry.getKey();
             Bean bean = beans.get(key);
             Map<String, String> refDependencies = entry.getValue().getRefDependencies();
             if (!refDependencies.isEmpty()) {
-                for (Map.Entry<String, String> refDependency : refDependencies.entrySet()) {
-                    String beanObject = refDependency.getValue();
-                    findMethodToInjectRefDependencies(bean, refDependency.getKey(), beans.get(beanObject).getValue());
-                }
+                startupTracker.trackBean(StartupPhase.INJECT_REF_DEPENDENCIES, key, () -> {
+                    for (Map.Entry<String, String> refDependency : refDependencies.entrySet()) {
+                        String beanObject = refDependency.getValue();
+                        Bean refBean = beans.get(beanObject);
+                        Object refValue = refBean == null ? otherRefResolver.apply(beanObject) : refBean.getValue();
+                        findMethodToInjectRefDependencies(bean, refDependency.getKey(), refValue);
+                    }
+                });
             }
         }
     }
@@ -130,140 +587,332 @@ public class GenericApplicationContext implements ApplicationContext {
             if (beanDefinitionMap.containsKey(beanKey)) {
                 Map<String, String> valueDependencies = beanDefinitionMap.get(beanKey).getValueDependencies();
                 Bean bean = beanMap.get(beanKey);
-                valueDependencies.forEach((key, value) -> findMethodsToInjectValueDependencies(bean, key, value));
+                if (!valueDependencies.isEmpty()) {
+                    startupTracker.trackBean(StartupPhase.INJECT_VALUE_DEPENDENCIES, beanKey, () ->
+                            valueDependencies.forEach((key, value) -> findMethodsToInjectValueDependencies(bean, key, value)));
+                }
             }
         });
     }
 
-    @SneakyThrows
     void injectValue(Object object, Method classMethod, String propertyValue) {
-        Method[] methods = object.getClass().getMethods();
-        String methodName = classMethod.getName();
-        Class<?>[] parameterTypes = classMethod.getParameterTypes();
-
-        List<Method> searchedMethods = Stream.of(methods)
-                .filter(method -> method.getName().equals(methodName))
-                .filter(method -> method.getParameterTypes().length == 1)
-                .toList();
-
-        if (!searchedMethods.isEmpty()) {
-            String parameterType = parameterTypes[0].getName();
-            if (parameterType.equals(Integer.TYPE.getName())) {
-                int intValueOfProperty = Integer.parseInt(propertyValue);
-                classMethod.invoke(object, intValueOfProperty);
-                return;
-            }
-        }
-        classMethod.invoke(object, propertyValue);
+        Object value = conversionService.convert(propertyValue, classMethod.getGenericParameterTypes()[0]);
+        beanAccessorFactory.getSetter(classMethod).accept(object, value);
     }
 
     void setBeans(Map<String, Bean> beans) {
-        this.beanMap = beans;
+        beanRegistry.publish(beans, new HashMap<>(), new HashMap<>(), Map.of());
     }
 
     @SneakyThrows
     void createBeanPostProcessors(Map<String, BeanDefinition> beanDefinitionMap) {
+        Map<String, BeanFactoryPostProcessor> createdBeanFactoryPostProcessors = new HashMap<>();
+        Map<String, Bean> beanPostProcessors = new HashMap<>(beanPostProcessorsMap);
         for (Map.Entry<String, BeanDefinition> entry : beanDefinitionMap.entrySet()) {
             Class<?> clazz = Class.forName(entry.getValue().getClassName());
 
             if ((BeanFactoryPostProcessor.class).isAssignableFrom(clazz)) {
                 BeanFactoryPostProcessor beanFactoryPostProcessor =
-                        (BeanFactoryPostProcessor) Class.forName(clazz.getName()).getConstructor().newInstance();
-                beanFactoryPostProcessors.add(beanFactoryPostProcessor);
+                        (BeanFactoryPostProcessor) beanAccessorFactory.getConstructor(clazz).get();
+                createdBeanFactoryPostProcessors.put(entry.getKey(), beanFactoryPostProcessor);
             }
             if ((BeanPostProcessor.class).isAssignableFrom(clazz)) {
                 BeanDefinition beanDefinition = entry.getValue();
                 BeanPostProcessor beanPostProcessor =
-                        (BeanPostProcessor) Class.forName(clazz.getName()).getConstructor().newInstance();
+                        (BeanPostProcessor) beanAccessorFactory.getConstructor(clazz).get();
                 Bean bean = new Bean(beanDefinition.getId(), beanPostProcessor);
-                beanPostProcessorsMap.put(entry.getKey(), bean);
+                beanPostProcessors.put(entry.getKey(), bean);
             }
         }
+        setBeanPostProcessorsMap(beanPostProcessors);
+        createdBeanFactoryPostProcessors.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, BeanFactoryPostProcessor> entry) ->
+                                getOrder(entry.getValue()))
+                        .thenComparing(Map.Entry::getKey))
+                .forEach(entry -> beanFactoryPostProcessors.add(entry.getValue()));
     }
 
-    void processBeanDefinitions(Map<String, BeanDefinition> beanDefinitionsMap) {
-        for (BeanFactoryPostProcessor beanFactoryPostProcessor : beanFactoryPostProcessors) {
-            beanFactoryPostProcessor.postProcessBeanFactory(beanDefinitionsMap);
+    // Runs the processors in order; consecutive independent processors run together per
+    // definition on disjoint slices of the definitions. Returns the ids of definitions
+    // that were added, removed or modified.
+    Set<String> processBeanDefinitions(Map<String, BeanDefinition> beanDefinitionsMap) {
+        if (beanFactoryPostProcessors.isEmpty()) {
+            return Set.of();
+        }
+        Map<String, BeanDefinition> originalBeanDefinitions = new HashMap<>();
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitionsMap.entrySet()) {
+            originalBeanDefinitions.put(entry.getKey(), new BeanDefinition(entry.getValue()));
         }
+
+        int index = 0;
+        while (index < beanFactoryPostProcessors.size()) {
+            BeanFactoryPostProcessor beanFactoryPostProcessor = beanFactoryPostProcessors.get(index++);
+            if (!(beanFactoryPostProcessor instanceof IndependentBeanFactoryPostProcessor independentProcessor)) {
+                beanFactoryPostProcessor.postProcessBeanFactory(beanDefinitionsMap);
+                continue;
+            }
+            List<IndependentBeanFactoryPostProcessor> independentProcessors = new ArrayList<>();
+            independentProcessors.add(independentProcessor);
+            while (index < beanFactoryPostProcessors.size()
+                    && beanFactoryPostProcessors.get(index) instanceof IndependentBeanFactoryPostProcessor next) {
+                independentProcessors.add(next);
+                index++;
+            }
+            beanTaskScheduler.runPartitioned(new ArrayList<>(beanDefinitionsMap.values()), beanDefinitions -> {
+                for (BeanDefinition beanDefinition : beanDefinitions) {
+                    for (IndependentBeanFactoryPostProcessor processor : independentProcessors) {
+                        processor.postProcessBeanDefinition(beanDefinition);
+                    }
+                }
+            });
+        }
+
+        Set<String> changedBeanIds = new HashSet<>();
+        for (String beanId : originalBeanDefinitions.keySet()) {
+            if (!beanDefinitionsMap.containsKey(beanId)) {
+                changedBeanIds.add(beanId);
+            }
+        }
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitionsMap.entrySet()) {
+            if (!BeanDefinitionDiff.isSame(originalBeanDefinitions.get(entry.getKey()), entry.getValue())) {
+                changedBeanIds.add(entry.getKey());
+            }
+        }
+        modifiedBeanDefinitionIds = changedBeanIds;
+        return changedBeanIds;
     }
 
     void processBeansBeforeInitialization(Map<String, Bean> beanMap) {
-        List<Bean> beanPostProcessors = beanPostProcessorsMap.values().stream().toList();
-        for (Bean beanPostProcessor : beanPostProcessors) {
-            BeanPostProcessor objectBeanPostProcessor = (BeanPostProcessor) beanPostProcessor.getValue();
-            for (Map.Entry<String, Bean> entry : beanMap.entrySet()) {
-                Bean bean = entry.getValue();
-                String beanId = bean.getId();
-
-                Object object = objectBeanPostProcessor.postProcessBeforeInitialization(beanId, bean);
-                bean.setValue(object);
-                beanMap.put(beanId, bean);
+        PostProcessorChains chains = getPostProcessorChains();
+        for (Bean bean : beanMap.values()) {
+            List<BeanPostProcessor> chain = chains.getChain(bean.getValue().getClass());
+            if (!chain.isEmpty()) {
+                startupTracker.trackBean(StartupPhase.PROCESS_BEANS_BEFORE_INITIALIZATION, bean.getId(), () -> {
+                    for (BeanPostProcessor beanPostProcessor : chain) {
+                        bean.setValue(beanPostProcessor.postProcessBeforeInitialization(bean.getId(), bean));
+                    }
+                });
             }
         }
     }
 
     void initializeBeans(Map<String, Bean> beanMap) {
+        initializeBeans(beanMap, Map.of());
+    }
+
+    void initializeBeans(Map<String, Bean> beanMap, Map<String, BeanDefinition> beanDefinitions) {
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        for (String beanId : beanMap.keySet()) {
+            BeanDefinition beanDefinition = beanDefinitions.get(beanId);
+            dependencies.put(beanId, beanDefinition == null
+                    ? Set.of() : BeanDependencies.getAllRefs(beanDefinition));
+        }
+        beanTaskScheduler.runInDependencyOrder(dependencies, beanId ->
+                startupTracker.trackBean(StartupPhase.INITIALIZE_BEANS, beanId, () -> initializeBean(beanMap.get(beanId))));
+    }
+
+    void processBeansAfterInitialization(Map<String, Bean> beanMap) {
+        PostProcessorChains chains = getPostProcessorChains();
         for (Bean bean : beanMap.values()) {
-            Object beanObject = bean.getValue();
-            for (Method declaredMethod : beanObject.getClass().getDeclaredMethods()) {
-                if (declaredMethod.isAnnotationPresent(PostConstruct.class)) {
-                    try {
-                        declaredMethod.setAccessible(true);
-                        declaredMethod.invoke(beanObject);
-                    } catch (Exception exception) {
-                        throw new ProcessPostConstructException("Can`t invoke method to initialize beans", exception);
+            List<BeanPostProcessor> chain = chains.getChain(bean.getValue().getClass());
+            if (!chain.isEmpty()) {
+                startupTracker.trackBean(StartupPhase.PROCESS_BEANS_AFTER_INITIALIZATION, bean.getId(), () -> {
+                    for (BeanPostProcessor beanPostProcessor : chain) {
+                        bean.setValue(beanPostProcessor.postProcessAfterInitialization(bean.getId(), bean));
                     }
-                }
+                });
             }
         }
     }
 
-    void processBeansAfterInitialization(Map<String, Bean> beanMap) {
-        for (Map.Entry<String, Bean> entry : beanPostProcessorsMap.entrySet()) {
-            Bean serviceBean = entry.getValue();
-            BeanPostProcessor objectPostProcessor = (BeanPostProcessor) serviceBean.getValue();
+    public void setBeanPostProcessorsMap(Map<String, Bean> beanPostProcessorsMap) {
+        // Keeps the HashMap iteration order, the post processors run in it
+        this.beanPostProcessorsMap = Collections.unmodifiableMap(new HashMap<>(beanPostProcessorsMap));
+        postProcessorChains = null;
+    }
 
-            for (Map.Entry<String, Bean> beanEntry : beanMap.entrySet()) {
-                String beanId = beanEntry.getValue().getId();
-                Bean bean = beanEntry.getValue();
+    // Fills the given deferred maps, which the caller publishes, and returns the beans to create now
+    Map<String, BeanDefinition> separateDeferredBeanDefinitions(Map<String, BeanDefinition> beanDefinitions,
+                                                                boolean defaultLazyInit,
+                                                                Map<String, BeanDefinition> deferredBeanDefinitions,
+                                                                Map<String, LazyBeanHolder> lazyBeans) {
+        Map<String, BeanDefinition> eagerBeanDefinitions = new HashMap<>();
+        Map<String, BeanDefinition> deferredDefinitions = new HashMap<>();
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
+            if (isDeferred(entry.getValue(), defaultLazyInit)) {
+                deferredDefinitions.put(entry.getKey(), entry.getValue());
+            } else {
+                eagerBeanDefinitions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        promoteConstructorRefs(eagerBeanDefinitions, deferredDefinitions);
+        for (Map.Entry<String, BeanDefinition> entry : deferredDefinitions.entrySet()) {
+            deferredBeanDefinitions.put(entry.getKey(), entry.getValue());
+            if (!isScoped(entry.getValue())) {
+                lazyBeans.put(entry.getKey(), new LazyBeanHolder(entry.getKey()));
+            }
+        }
+        return eagerBeanDefinitions;
+    }
 
-                Object object = objectPostProcessor.postProcessAfterInitialization(beanId, bean);
-                bean.setValue(object);
-                beanMap.put(beanId, bean);
+    // Eager constructors run before any eager bean is registered, so a deferred bean they need can't be
+    // created on demand: its setter refs would find nothing. Lazy singletons reached that way are created
+    // with the eager beans instead; scoped beans get a new instance each time and must not have refs.
+    private static void promoteConstructorRefs(Map<String, BeanDefinition> eagerBeanDefinitions,
+                                               Map<String, BeanDefinition> deferredDefinitions) {
+        Deque<BeanDefinition> pendingBeanDefinitions = new ArrayDeque<>(eagerBeanDefinitions.values());
+        while (!pendingBeanDefinitions.isEmpty()) {
+            BeanDefinition beanDefinition = pendingBeanDefinitions.poll();
+            for (String refBeanId : BeanDependencies.getConstructorRefs(beanDefinition)) {
+                BeanDefinition refBeanDefinition = deferredDefinitions.get(refBeanId);
+                if (refBeanDefinition == null) {
+                    continue;
+                }
+                if (isScoped(refBeanDefinition)) {
+                    if (!BeanDependencies.getAllRefs(refBeanDefinition).isEmpty()) {
+                        throw new BeanInstantiationException("Bean " + beanDefinition.getId() + " can`t get scoped bean "
+                                + refBeanId + " through its constructor, as the refs of " + refBeanId + " aren`t created yet");
+                    }
+                    continue;
+                }
+                deferredDefinitions.remove(refBeanId);
+                eagerBeanDefinitions.put(refBeanId, refBeanDefinition);
+                pendingBeanDefinitions.add(refBeanDefinition);
             }
         }
     }
 
-    @SneakyThrows
-    private void findMethodToInjectRefDependencies(Bean bean, String fieldName, Object value) {
-        Method[] methods = bean.getValue().getClass().getMethods();
-        String methodName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    private static int getOrder(Object processor) {
+        return processor instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private PostProcessorChains getPostProcessorChains() {
+        PostProcessorChains chains = postProcessorChains;
+        if (chains == null) {
+            chains = new PostProcessorChains(beanPostProcessorsMap.values());
+            postProcessorChains = chains;
+        }
+        return chains;
+    }
 
-        for (Method method : methods) {
-            if (method.getName().equals(methodName)) {
-                method.invoke(bean.getValue(), value);
+    private Bean findBean(String beanId) {
+        BeanRegistry.Snapshot snapshot = beanRegistry.getSnapshot();
+        Bean bean = snapshot.getBeans().get(beanId);
+        if (bean != null) {
+            return bean;
+        }
+        return findDeferredBean(beanId, snapshot.getDeferredBeanDefinitions(), snapshot.getLazyBeans(), this::getBeanValue);
+    }
+
+    private Bean findDeferredBean(String beanId, Map<String, BeanDefinition> deferredBeanDefinitions,
+                                  Map<String, LazyBeanHolder> lazyBeans, Function<String, Object> refResolver) {
+        BeanDefinition beanDefinition = deferredBeanDefinitions.get(beanId);
+        if (beanDefinition == null) {
+            return null;
+        }
+        LazyBeanHolder lazyBean = lazyBeans.get(beanId);
+        if (lazyBean != null) {
+            return lazyBean.getBean(earlyValueConsumer -> createDeferredBean(beanDefinition, refResolver, earlyValueConsumer));
+        }
+        Scope scope = scopes.get(beanDefinition.getScope());
+        return new Bean(beanId, scope.get(beanDefinition,
+                () -> createDeferredBean(beanDefinition, refResolver, value -> {
+                }).getValue()));
+    }
+
+    // Plans are cached per id but belong to one definition object, so a refreshed definition never reuses a stale plan
+    private InjectionPlan getInjectionPlan(BeanDefinition beanDefinition) {
+        InjectionPlan injectionPlan = injectionPlans.get(beanDefinition.getId());
+        if (injectionPlan == null || injectionPlan.getBeanDefinition() != beanDefinition) {
+            injectionPlan = new InjectionPlan(beanDefinition, beanAccessorFactory, beanPropertyCache, conversionService);
+            injectionPlans.put(beanDefinition.getId(), injectionPlan);
+        }
+        return injectionPlan;
+    }
+
+    private Bean createDeferredBean(BeanDefinition beanDefinition, Function<String, Object> refResolver,
+                                    Consumer<Object> earlyValueConsumer) {
+        String beanId = beanDefinition.getId();
+        InjectionPlan injectionPlan = getInjectionPlan(beanDefinition);
+        Object value = injectionPlan.instantiateWithValues(refResolver);
+        earlyValueConsumer.accept(value);
+        injectionPlan.injectRefs(value, refResolver);
+        Bean bean = new Bean(beanId, value);
+        Map<String, Bean> beans = new HashMap<>();
+        beans.put(beanId, bean);
+
+        processBeansBeforeInitialization(beans);
+        if (bean.getValue().getClass() == injectionPlan.getBeanClass()) {
+            injectionPlan.initialize(bean.getValue());
+        } else {
+            initializeBean(bean);
+        }
+        processBeansAfterInitialization(beans);
+        return bean;
+    }
+
+    private boolean isDeferred(BeanDefinition beanDefinition, boolean defaultLazyInit) {
+        if (isScoped(beanDefinition)) {
+            if (!scopes.containsKey(beanDefinition.getScope())) {
+                throw new BeanInstantiationException("Unknown scope " + beanDefinition.getScope()
+                        + " of bean " + beanDefinition.getId());
             }
+            return true;
         }
+        Boolean lazyInit = beanDefinition.getLazyInit();
+        return lazyInit == null ? defaultLazyInit : lazyInit;
     }
 
-    @SneakyThrows
-    private void findMethodsToInjectValueDependencies(Bean bean, String key, String value) {
-        List<Method> methods = Arrays.stream(bean.getValue().getClass().getMethods()).toList();
-        String methodName = "set" + key.substring(0, 1).toUpperCase() + key.substring(1);
+    private Map<String, Class<?>> getBeanTypes(Collection<BeanDefinition> beanDefinitions) {
+        Map<String, Class<?>> beanTypes = new HashMap<>();
+        for (BeanDefinition beanDefinition : beanDefinitions) {
+            try {
+                Class<?> clazz = Class.forName(beanDefinition.getClassName(), false, getClass().getClassLoader());
+                beanTypes.put(beanDefinition.getId(), clazz);
+            } catch (ClassNotFoundException exception) {
+                throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+            }
+        }
+        return beanTypes;
+    }
 
-        Class<?>[] parameterTypes = methods.stream()
-                .filter(method -> method.getName().equals(methodName))
-                .findFirst()
-                .map(Method::getParameterTypes)
-                .get();
+    private static boolean isScoped(BeanDefinition beanDefinition) {
+        String scope = beanDefinition.getScope();
+        return scope != null && !Scope.SINGLETON.equals(scope);
+    }
 
-        String parameterType = Arrays.stream(parameterTypes).findFirst().get().getName();
-        Method searchedMethod = methods.stream()
-                .filter(method -> method.getName().equals(methodName))
-                .findFirst().get();
+    private Object createBeanObject(BeanDefinition beanDefinition, Function<String, Object> refResolver) {
+        return new InstantiationPlan(beanDefinition, beanAccessorFactory, conversionService).instantiate(refResolver);
+    }
 
-        if (parameterType.equals(Integer.TYPE.getName()) || parameterType.equals(String.class.getName())) {
-            injectValue(bean.getValue(), searchedMethod, value);
+    private void initializeBean(Bean bean) {
+        Object beanObject = bean.getValue();
+        for (Method declaredMethod : beanObject.getClass().getDeclaredMethods()) {
+            if (declaredMethod.isAnnotationPresent(PostConstruct.class)) {
+                try {
+                    declaredMethod.setAccessible(true);
+                    declaredMethod.invoke(beanObject);
+                } catch (Exception exception) {
+                    throw new ProcessPostConstructException("Can`t invoke method to initialize beans", exception);
+                }
+            }
+        }
+    }
+
+    private void findMethodToInjectRefDependencies(Bean bean, String fieldName, Object value) {
+        BeanProperty property = beanPropertyCache.getProperty(bean.getValue().getClass(), fieldName);
+        if (property == null) {
+            throw new BeanInstantiationException("No setter for property " + fieldName + " of bean " + bean.getId());
+        }
+        beanAccessorFactory.getSetter(property.getSetter()).accept(bean.getValue(), value);
+    }
+
+    private void findMethodsToInjectValueDependencies(Bean bean, String key, String value) {
+        BeanProperty property = beanPropertyCache.getProperty(bean.getValue().getClass(), key);
+        if (property == null) {
+            throw new BeanInstantiationException("No setter for property " + key + " of bean " + bean.getId());
         }
+        Object convertedValue = InjectionPlan.convertValue(conversionService, property, bean.getId(), value);
+        beanAccessorFactory.getSetter(property.getSetter()).accept(bean.getValue(), convertedValue);
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.accessor.BeanAccessorFactory;
+import com.study.ioc.convert.ConversionService;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.BeanInstantiationException;
+import com.study.ioc.exception.ConversionException;
+import com.study.ioc.exception.ProcessPostConstructException;
+import com.study.ioc.property.BeanProperty;
+import com.study.ioc.property.BeanPropertyCache;
+
+import javax.annotation.PostConstruct;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// Everything a bean definition needs on every instantiation, resolved once:
+// the instantiation plan, the setters with already converted values and the
+// @PostConstruct methods. Scoped beans are created from this over and over.
+class InjectionPlan {
+    private final BeanDefinition beanDefinition;
+    private final Class<?> beanClass;
+    private final InstantiationPlan instantiationPlan;
+    private final List<PropertyInjection> valueInjections = new ArrayList<>();
+    private final List<PropertyInjection> refInjections = new ArrayList<>();
+    private final List<Method> postConstructMethods = new ArrayList<>();
+
+    InjectionPlan(BeanDefinition beanDefinition, BeanAccessorFactory beanAccessorFactory,
+                  BeanPropertyCache beanPropertyCache, ConversionService conversionService) {
+        this.beanDefinition = beanDefinition;
+        instantiationPlan = new InstantiationPlan(beanDefinition, beanAccessorFactory, conversionService);
+        beanClass = instantiationPlan.getBeanClass();
+
+        for (Map.Entry<String, String> entry : beanDefinition.getValueDependencies().entrySet()) {
+            BeanProperty property = beanPropertyCache.getProperty(beanClass, entry.getKey());
+            if (property == null) {
+                throw new BeanInstantiationException("No setter for property " + entry.getKey()
+                        + " of bean " + beanDefinition.getId());
+            }
+            Object value = convertValue(conversionService, property, beanDefinition.getId(), entry.getValue());
+            valueInjections.add(new PropertyInjection(beanAccessorFactory.getSetter(property.getSetter()), value));
+        }
+        for (Map.Entry<String, String> entry : beanDefinition.getRefDependencies().entrySet()) {
+            BeanProperty property = beanPropertyCache.getProperty(beanClass, entry.getKey());
+            if (property == null) {
+                throw new BeanInstantiationException("No setter for property " + entry.getKey()
+                        + " of bean " + beanDefinition.getId());
+            }
+            refInjections.add(new PropertyInjection(beanAccessorFactory.getSetter(property.getSetter()),
+                    entry.getValue()));
+        }
+        for (Method declaredMethod : beanClass.getDeclaredMethods()) {
+            if (declaredMethod.isAnnotationPresent(PostConstruct.class)) {
+                declaredMethod.setAccessible(true);
+                postConstructMethods.add(declaredMethod);
+            }
+        }
+    }
+
+    BeanDefinition getBeanDefinition() {
+        return beanDefinition;
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    Object instantiate(Function<String, Object> refResolver) {
+        Object bean = instantiateWithValues(refResolver);
+        injectRefs(bean, refResolver);
+        return bean;
+    }
+
+    Object instantiateWithValues(Function<String, Object> refResolver) {
+        Object bean = instantiationPlan.instantiate(refResolver);
+        for (PropertyInjection injection : valueInjections) {
+            injection.setter.accept(bean, injection.value);
+        }
+        return bean;
+    }
+
+    void injectRefs(Object bean, Function<String, Object> refResolver) {
+        for (PropertyInjection injection : refInjections) {
+            injection.setter.accept(bean, refResolver.apply((String) injection.value));
+        }
+    }
+
+    static Object convertValue(ConversionService conversionService, BeanProperty property, String beanId, String value) {
+        try {
+            return conversionService.convert(value, property.getGenericType());
+        } catch (ConversionException exception) {
+            throw new BeanInstantiationException("Can`t convert value of property " + property.getName()
+                    + " of bean " + beanId, exception);
+        }
+    }
+
+    void initialize(Object bean) {
+        for (Method postConstructMethod : postConstructMethods) {
+            try {
+                postConstructMethod.invoke(bean);
+            } catch (Exception exception) {
+                throw new ProcessPostConstructException("Can`t invoke method to initialize beans", exception);
+            }
+        }
+    }
+
+    private static class PropertyInjection {
+        private final BiConsumer<Object, Object> setter;
+        private final Object value;
+
+        private PropertyInjection(BiConsumer<Object, Object> setter, Object value) {
+            this.setter = setter;
+            this.value = value;
+        }
+    }
+}
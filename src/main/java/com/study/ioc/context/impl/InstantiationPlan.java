@@ -0,0 +1,143 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.accessor.BeanAccessorFactory;
+import com.study.ioc.convert.ConversionService;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.BeanInstantiationException;
+import com.study.ioc.exception.ConversionException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Constructor selection and value conversion happen once here; instantiating a bean
+// only fills in the ref arguments and makes a single constructor call.
+class InstantiationPlan {
+    private static final Object NOT_CONVERTIBLE = new Object();
+
+    private final Class<?> beanClass;
+    private final Supplier<Object> defaultConstructor;
+    private final Function<Object[], Object> constructor;
+    private final Object[] values;
+    private final String[] refBeanIds;
+
+    InstantiationPlan(BeanDefinition beanDefinition, BeanAccessorFactory beanAccessorFactory,
+                      ConversionService conversionService) {
+        try {
+            beanClass = Class.forName(beanDefinition.getClassName());
+        } catch (ClassNotFoundException exception) {
+            throw new BeanInstantiationException("Can`t create bean`s instantiation", exception);
+        }
+        List<ConstructorArgument> arguments = beanDefinition.getConstructorArguments();
+        if (arguments.isEmpty()) {
+            defaultConstructor = beanAccessorFactory.getConstructor(beanClass);
+            constructor = null;
+            values = null;
+            refBeanIds = null;
+            return;
+        }
+
+        ConstructorArgument[] slots = arrangeArguments(beanDefinition.getId(), arguments);
+        Constructor<?> selectedConstructor = null;
+        Object[] selectedValues = null;
+        for (Constructor<?> candidate : beanClass.getConstructors()) {
+            if (candidate.getParameterCount() != slots.length) {
+                continue;
+            }
+            Object[] candidateValues = convertArguments(conversionService, candidate.getGenericParameterTypes(), slots);
+            if (candidateValues == null) {
+                continue;
+            }
+            if (selectedConstructor != null) {
+                throw new BeanInstantiationException("Ambiguous constructor arguments of bean " + beanDefinition.getId());
+            }
+            selectedConstructor = candidate;
+            selectedValues = candidateValues;
+        }
+        if (selectedConstructor == null) {
+            throw new BeanInstantiationException("No constructor of " + beanClass.getName()
+                    + " matches the arguments of bean " + beanDefinition.getId());
+        }
+        defaultConstructor = null;
+        constructor = beanAccessorFactory.getConstructor(selectedConstructor);
+        values = selectedValues;
+        refBeanIds = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            refBeanIds[i] = slots[i].getRef();
+        }
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    Object instantiate(Function<String, Object> refResolver) {
+        if (defaultConstructor != null) {
+            return defaultConstructor.get();
+        }
+        Object[] arguments = values.clone();
+        for (int i = 0; i < refBeanIds.length; i++) {
+            if (refBeanIds[i] != null) {
+                arguments[i] = refResolver.apply(refBeanIds[i]);
+            }
+        }
+        return constructor.apply(arguments);
+    }
+
+    private static ConstructorArgument[] arrangeArguments(String beanId, List<ConstructorArgument> arguments) {
+        ConstructorArgument[] slots = new ConstructorArgument[arguments.size()];
+        for (ConstructorArgument argument : arguments) {
+            Integer index = argument.getIndex();
+            if (index == null) {
+                continue;
+            }
+            if (index >= slots.length || slots[index] != null) {
+                throw new BeanInstantiationException("Invalid constructor argument index " + index + " of bean " + beanId);
+            }
+            slots[index] = argument;
+        }
+        int nextSlot = 0;
+        for (ConstructorArgument argument : arguments) {
+            if (argument.getIndex() == null) {
+                while (slots[nextSlot] != null) {
+                    nextSlot++;
+                }
+                slots[nextSlot] = argument;
+            }
+        }
+        return slots;
+    }
+
+    private static Object[] convertArguments(ConversionService conversionService, Type[] parameterTypes,
+                                             ConstructorArgument[] slots) {
+        Object[] converted = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].getRef() != null) {
+                if (parameterTypes[i] instanceof Class<?> parameterClass && parameterClass.isPrimitive()) {
+                    return null;
+                }
+                continue;
+            }
+            Object value = convertValue(conversionService, slots[i].getValue(), parameterTypes[i]);
+            if (value == NOT_CONVERTIBLE) {
+                return null;
+            }
+            converted[i] = value;
+        }
+        return converted;
+    }
+
+    private static Object convertValue(ConversionService conversionService, String value, Type type) {
+        if (!conversionService.canConvert(type)) {
+            return NOT_CONVERTIBLE;
+        }
+        try {
+            return conversionService.convert(value, type);
+        } catch (ConversionException exception) {
+            return NOT_CONVERTIBLE;
+        }
+    }
+}
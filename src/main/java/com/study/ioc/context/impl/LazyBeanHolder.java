@@ -0,0 +1,51 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.Bean;
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+class LazyBeanHolder {
+    private final String beanId;
+    private volatile Bean bean;
+    private Thread creatingThread;
+    private Object earlyValue;
+
+    LazyBeanHolder(String beanId) {
+        this.beanId = beanId;
+    }
+
+    // The factory publishes the instance through the consumer once it is constructed, before its refs
+    // are injected, so a setter cycle back to this bean gets that instance like between eager beans.
+    // Only a cycle through constructors reaches the bean before it exists.
+    Bean getBean(Function<Consumer<Object>, Bean> beanFactory) {
+        Bean createdBean = bean;
+        if (createdBean != null) {
+            return createdBean;
+        }
+        synchronized (this) {
+            if (bean == null) {
+                if (creatingThread == Thread.currentThread()) {
+                    if (earlyValue == null) {
+                        throw new BeanInstantiationException("Circular constructor reference to lazy bean " + beanId);
+                    }
+                    return new Bean(beanId, earlyValue);
+                }
+                creatingThread = Thread.currentThread();
+                try {
+                    bean = beanFactory.apply(value -> earlyValue = value);
+                } finally {
+                    creatingThread = null;
+                    earlyValue = null;
+                }
+            }
+            return bean;
+        }
+    }
+
+    Object getCreatedValue() {
+        Bean createdBean = bean;
+        return createdBean == null ? null : createdBean.getValue();
+    }
+}
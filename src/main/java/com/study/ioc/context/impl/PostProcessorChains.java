@@ -0,0 +1,41 @@
+package com.study.ioc.context.impl;
+
+import com.study.ioc.entity.Bean;
+import com.study.ioc.processor.BeanPostProcessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Asks every processor once per bean class whether it applies, beans of a class
+// no processor applies to get an empty chain and skip post processing.
+class PostProcessorChains {
+    private final List<BeanPostProcessor> beanPostProcessors = new ArrayList<>();
+    private final Map<Class<?>, List<BeanPostProcessor>> chains = new ConcurrentHashMap<>();
+
+    PostProcessorChains(Collection<Bean> beanPostProcessorBeans) {
+        for (Bean bean : beanPostProcessorBeans) {
+            beanPostProcessors.add((BeanPostProcessor) bean.getValue());
+        }
+    }
+
+    List<BeanPostProcessor> getChain(Class<?> beanClass) {
+        List<BeanPostProcessor> chain = chains.get(beanClass);
+        if (chain == null) {
+            chain = chains.computeIfAbsent(beanClass, this::createChain);
+        }
+        return chain;
+    }
+
+    private List<BeanPostProcessor> createChain(Class<?> beanClass) {
+        List<BeanPostProcessor> chain = new ArrayList<>();
+        for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+            if (beanPostProcessor.appliesTo(beanClass)) {
+                chain.add(beanPostProcessor);
+            }
+        }
+        return chain.isEmpty() ? List.of() : List.copyOf(chain);
+    }
+}
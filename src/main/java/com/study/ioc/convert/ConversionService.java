@@ -0,0 +1,242 @@
+package com.study.ioc.convert;
+
+import com.study.ioc.exception.ConversionException;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Converts property values from their string form. Converters are resolved once per target type and
+// converted values are cached per (value, type), so a value repeated across beans is parsed once.
+// Cached values are shared between beans, so registered converters should return immutable objects.
+public class ConversionService {
+    private static final ConversionService DEFAULT_SERVICE = new ConversionService();
+    private static final int MAX_CACHED_VALUES = 4096;
+    private static final String LIST_SEPARATOR = ",";
+
+    private final Map<Class<?>, Converter<?>> converters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<?>> resolvedConverters = new ConcurrentHashMap<>();
+    private final Map<ConversionKey, Object> convertedValues = new ConcurrentHashMap<>();
+
+    public ConversionService() {
+        addDefaultConverters();
+    }
+
+    public static ConversionService getDefault() {
+        return DEFAULT_SERVICE;
+    }
+
+    public <T> ConversionService addConverter(Class<T> type, Converter<? extends T> converter) {
+        converters.put(type, converter);
+        resolvedConverters.clear();
+        convertedValues.clear();
+        return this;
+    }
+
+    public boolean canConvert(Type type) {
+        return getConverter(type) != null;
+    }
+
+    public Object convert(String value, Type type) {
+        Converter<?> converter = getConverter(type);
+        if (converter == null) {
+            throw new ConversionException("No converter for type " + type.getTypeName());
+        }
+        ConversionKey key = new ConversionKey(value, type);
+        Object convertedValue = convertedValues.get(key);
+        if (convertedValue != null) {
+            return convertedValue;
+        }
+        try {
+            convertedValue = converter.convert(value);
+        } catch (ConversionException exception) {
+            throw exception;
+        } catch (RuntimeException exception) {
+            throw new ConversionException("Can`t convert " + value + " to " + type.getTypeName(), exception);
+        }
+        if (convertedValue != null && convertedValues.size() < MAX_CACHED_VALUES) {
+            convertedValues.putIfAbsent(key, convertedValue);
+        }
+        return convertedValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T convert(String value, Class<T> type) {
+        Object convertedValue = convert(value, (Type) type);
+        return type.isPrimitive() ? (T) convertedValue : type.cast(convertedValue);
+    }
+
+    private Converter<?> getConverter(Type type) {
+        Converter<?> converter = resolvedConverters.get(type);
+        if (converter == null) {
+            converter = resolveConverter(type);
+            if (converter != null) {
+                resolvedConverters.putIfAbsent(type, converter);
+            }
+        }
+        return converter;
+    }
+
+    private Converter<?> resolveConverter(Type type) {
+        if (type instanceof Class<?> clazz) {
+            Converter<?> converter = converters.get(clazz);
+            if (converter != null) {
+                return converter;
+            }
+            if (clazz.isEnum()) {
+                return value -> toEnum(clazz, value);
+            }
+            return isCollection(clazz) ? getCollectionConverter(clazz, String.class) : null;
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType && isCollection(rawType)) {
+            Type elementType = parameterizedType.getActualTypeArguments()[0];
+            if (elementType instanceof WildcardType wildcardType) {
+                elementType = wildcardType.getUpperBounds()[0];
+            }
+            return getCollectionConverter(rawType, elementType);
+        }
+        return null;
+    }
+
+    private Converter<?> getCollectionConverter(Class<?> collectionType, Type elementType) {
+        Converter<?> elementConverter = getConverter(elementType);
+        if (elementConverter == null) {
+            return null;
+        }
+        boolean set = collectionType == Set.class;
+        return value -> {
+            List<Object> elements = new ArrayList<>();
+            if (!value.isBlank()) {
+                for (String element : value.split(LIST_SEPARATOR)) {
+                    elements.add(elementConverter.convert(element.trim()));
+                }
+            }
+            return set
+                    ? Collections.unmodifiableSet(new LinkedHashSet<>(elements))
+                    : Collections.unmodifiableList(elements);
+        };
+    }
+
+    private void addDefaultConverters() {
+        Converter<String> stringConverter = value -> value;
+        converters.put(String.class, stringConverter);
+        converters.put(CharSequence.class, stringConverter);
+        converters.put(Object.class, stringConverter);
+        addPrimitiveConverter(Integer.TYPE, Integer.class, value -> Integer.parseInt(value.trim()));
+        addPrimitiveConverter(Long.TYPE, Long.class, value -> Long.parseLong(value.trim()));
+        addPrimitiveConverter(Short.TYPE, Short.class, value -> Short.parseShort(value.trim()));
+        addPrimitiveConverter(Byte.TYPE, Byte.class, value -> Byte.parseByte(value.trim()));
+        addPrimitiveConverter(Double.TYPE, Double.class, value -> Double.parseDouble(value.trim()));
+        addPrimitiveConverter(Float.TYPE, Float.class, value -> Float.parseFloat(value.trim()));
+        addPrimitiveConverter(Boolean.TYPE, Boolean.class, ConversionService::toBoolean);
+        addPrimitiveConverter(Character.TYPE, Character.class, ConversionService::toCharacter);
+        converters.put(BigInteger.class, value -> new BigInteger(value.trim()));
+        converters.put(BigDecimal.class, value -> new BigDecimal(value.trim()));
+        converters.put(Duration.class, ConversionService::toDuration);
+        converters.put(Path.class, Path::of);
+    }
+
+    private <T> void addPrimitiveConverter(Class<T> primitiveType, Class<T> boxedType, Converter<T> converter) {
+        converters.put(primitiveType, converter);
+        converters.put(boxedType, converter);
+    }
+
+    private static boolean isCollection(Class<?> type) {
+        return type == List.class || type == Collection.class || type == Iterable.class || type == Set.class;
+    }
+
+    private static Boolean toBoolean(String value) {
+        String trimmedValue = value.trim();
+        if (trimmedValue.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (trimmedValue.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new ConversionException("Can`t convert " + value + " to boolean");
+    }
+
+    private static Character toCharacter(String value) {
+        if (value.length() != 1) {
+            throw new ConversionException("Can`t convert " + value + " to char");
+        }
+        return value.charAt(0);
+    }
+
+    private static Object toEnum(Class<?> enumType, String value) {
+        String name = value.trim();
+        for (Object constant : enumType.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new ConversionException("No constant " + name + " in enum " + enumType.getName());
+    }
+
+    // Accepts ISO-8601 (PT30S) or a number with an optional ns, us, ms, s, m, h or d suffix;
+    // a bare number is taken as milliseconds.
+    private static Duration toDuration(String value) {
+        String trimmedValue = value.trim();
+        if (trimmedValue.startsWith("P") || trimmedValue.startsWith("-P")) {
+            return Duration.parse(trimmedValue);
+        }
+        int unitStart = trimmedValue.length();
+        while (unitStart > 0 && Character.isLetter(trimmedValue.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        long amount = Long.parseLong(trimmedValue.substring(0, unitStart));
+        return switch (trimmedValue.substring(unitStart)) {
+            case "ns" -> Duration.ofNanos(amount);
+            case "us" -> Duration.of(amount, ChronoUnit.MICROS);
+            case "", "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            case "d" -> Duration.ofDays(amount);
+            default -> throw new ConversionException("Can`t convert " + value + " to duration");
+        };
+    }
+
+    private static class ConversionKey {
+        private final String value;
+        private final Type type;
+        private final int hash;
+
+        private ConversionKey(String value, Type type) {
+            this.value = value;
+            this.type = type;
+            this.hash = 31 * value.hashCode() + type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof ConversionKey key)) {
+                return false;
+            }
+            return hash == key.hash && value.equals(key.value) && Objects.equals(type, key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
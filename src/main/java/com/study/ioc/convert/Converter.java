@@ -0,0 +1,7 @@
+package com.study.ioc.convert;
+
+@FunctionalInterface
+public interface Converter<T> {
+
+    T convert(String value);
+}
@@ -3,7 +3,9 @@ package com.study.ioc.entity;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Setter
@@ -13,9 +15,23 @@ public class BeanDefinition {
     private String className;
     private Map<String, String> valueDependencies = new HashMap<>();
     private Map<String, String> refDependencies = new HashMap<>();
+    private Boolean lazyInit;
+    private String scope;
+    private Map<String, String> scopeAttributes = new HashMap<>();
+    private List<ConstructorArgument> constructorArguments = new ArrayList<>();
 
     public BeanDefinition(String id, String className) {
         this.id = id;
         this.className = className;
     }
+
+    public BeanDefinition(BeanDefinition beanDefinition) {
+        this(beanDefinition.getId(), beanDefinition.getClassName());
+        valueDependencies = new HashMap<>(beanDefinition.getValueDependencies());
+        refDependencies = new HashMap<>(beanDefinition.getRefDependencies());
+        lazyInit = beanDefinition.getLazyInit();
+        scope = beanDefinition.getScope();
+        scopeAttributes = new HashMap<>(beanDefinition.getScopeAttributes());
+        constructorArguments = new ArrayList<>(beanDefinition.getConstructorArguments());
+    }
 }
\ No newline at end of file
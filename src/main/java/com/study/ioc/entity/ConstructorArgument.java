@@ -0,0 +1,14 @@
+package com.study.ioc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ConstructorArgument {
+    private final Integer index;
+    private final String value;
+    private final String ref;
+}
@@ -0,0 +1,8 @@
+package com.study.ioc.exception;
+
+public class ContextGenerationException extends RuntimeException {
+
+    public ContextGenerationException(String message) {
+        super(message);
+    }
+}
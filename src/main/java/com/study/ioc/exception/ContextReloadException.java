@@ -0,0 +1,12 @@
+package com.study.ioc.exception;
+
+public class ContextReloadException extends RuntimeException {
+
+    public ContextReloadException(String message) {
+        super(message);
+    }
+
+    public ContextReloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.ioc.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// An edge from a bean to the bean it refers to, named after the property or constructor argument.
+@Getter
+@AllArgsConstructor
+public class Dependency {
+    private final String beanId;
+    private final String refBeanId;
+    private final String name;
+    private final boolean constructorArgument;
+
+    @Override
+    public String toString() {
+        return beanId + "." + name + " -> " + refBeanId;
+    }
+}
@@ -0,0 +1,352 @@
+package com.study.ioc.graph;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.json.JsonStrings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+// The refs of all bean definitions as a graph, built before any bean exists. Strongly connected
+// components are found with Tarjan's algorithm, which emits them dependencies first, so levels
+// and cost weighted longest paths fall out of a single pass over the components.
+public class DependencyGraph {
+    private static final Predicate<Dependency> ALL_DEPENDENCIES = dependency -> true;
+    private static final Predicate<Dependency> CONSTRUCTOR_DEPENDENCIES = Dependency::isConstructorArgument;
+
+    private final Map<String, String> classNames = new TreeMap<>();
+    private final Map<String, List<Dependency>> dependencies = new TreeMap<>();
+    private final List<Dependency> danglingDependencies = new ArrayList<>();
+    private final List<List<String>> components;
+    private final Map<String, Integer> componentIndexes = new HashMap<>();
+    private final Map<String, Integer> beanLevels = new HashMap<>();
+    private final List<List<String>> levels = new ArrayList<>();
+
+    private DependencyGraph(Map<String, BeanDefinition> beanDefinitions) {
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            classNames.put(beanDefinition.getId(), beanDefinition.getClassName());
+            List<Dependency> beanDependencies = new ArrayList<>();
+            for (Map.Entry<String, String> refDependency : beanDefinition.getRefDependencies().entrySet()) {
+                beanDependencies.add(new Dependency(beanDefinition.getId(), refDependency.getValue(),
+                        refDependency.getKey(), false));
+            }
+            List<ConstructorArgument> arguments = beanDefinition.getConstructorArguments();
+            for (int i = 0; i < arguments.size(); i++) {
+                ConstructorArgument argument = arguments.get(i);
+                if (argument.getRef() != null) {
+                    int index = argument.getIndex() == null ? i : argument.getIndex();
+                    beanDependencies.add(new Dependency(beanDefinition.getId(), argument.getRef(),
+                            "constructor[" + index + "]", true));
+                }
+            }
+            beanDependencies.sort(Comparator.comparing(Dependency::getName));
+            dependencies.put(beanDefinition.getId(), beanDependencies);
+        }
+        for (List<Dependency> beanDependencies : dependencies.values()) {
+            for (Dependency dependency : beanDependencies) {
+                if (!dependencies.containsKey(dependency.getRefBeanId())) {
+                    danglingDependencies.add(dependency);
+                }
+            }
+        }
+
+        components = findComponents(ALL_DEPENDENCIES);
+        for (int i = 0; i < components.size(); i++) {
+            int level = 0;
+            for (String beanId : components.get(i)) {
+                componentIndexes.put(beanId, i);
+            }
+            for (String beanId : components.get(i)) {
+                for (Dependency dependency : getResolvedDependencies(beanId, ALL_DEPENDENCIES)) {
+                    Integer dependencyComponent = componentIndexes.get(dependency.getRefBeanId());
+                    if (dependencyComponent != i) {
+                        level = Math.max(level, beanLevels.get(dependency.getRefBeanId()) + 1);
+                    }
+                }
+            }
+            if (level == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            for (String beanId : components.get(i)) {
+                beanLevels.put(beanId, level);
+                levels.get(level).add(beanId);
+            }
+        }
+        levels.forEach(Collections::sort);
+    }
+
+    public static DependencyGraph of(Map<String, BeanDefinition> beanDefinitions) {
+        return new DependencyGraph(beanDefinitions);
+    }
+
+    public Set<String> getBeanIds() {
+        return Collections.unmodifiableSet(dependencies.keySet());
+    }
+
+    public List<Dependency> getDependencies(String beanId) {
+        return Collections.unmodifiableList(dependencies.getOrDefault(beanId, List.of()));
+    }
+
+    // Refs to beans without a definition.
+    public List<Dependency> getDanglingDependencies() {
+        return Collections.unmodifiableList(danglingDependencies);
+    }
+
+    // Dependencies first; beans of a cycle share one component.
+    public List<List<String>> getStronglyConnectedComponents() {
+        return Collections.unmodifiableList(components);
+    }
+
+    // Beans of a level only refer to beans of lower levels or to their own cycle.
+    public List<List<String>> getLevels() {
+        return Collections.unmodifiableList(levels);
+    }
+
+    public int getLevel(String beanId) {
+        return beanLevels.get(beanId);
+    }
+
+    // One cycle per strongly connected component, as the path of refs leading back to its first bean.
+    public List<List<Dependency>> getCycles() {
+        return findCycles(components, ALL_DEPENDENCIES);
+    }
+
+    // Cycles made of constructor arguments only, which no instantiation order can satisfy.
+    public List<List<Dependency>> getConstructorCycles() {
+        return findCycles(findComponents(CONSTRUCTOR_DEPENDENCIES), CONSTRUCTOR_DEPENDENCIES);
+    }
+
+    // The chain of dependencies with the highest summed cost, in creation order: every bean
+    // depends on the one before it. Beans of a cycle count as one step.
+    public List<String> getCriticalPath(Map<String, Long> costNanos) {
+        long[] pathCosts = new long[components.size()];
+        int[] previousComponents = new int[components.size()];
+        int lastComponent = -1;
+        for (int i = 0; i < components.size(); i++) {
+            previousComponents[i] = -1;
+            long componentCost = 0;
+            for (String beanId : components.get(i)) {
+                componentCost += costNanos.getOrDefault(beanId, 0L);
+                for (Dependency dependency : getResolvedDependencies(beanId, ALL_DEPENDENCIES)) {
+                    int dependencyComponent = componentIndexes.get(dependency.getRefBeanId());
+                    if (dependencyComponent != i && (previousComponents[i] < 0
+                            || pathCosts[dependencyComponent] > pathCosts[previousComponents[i]])) {
+                        previousComponents[i] = dependencyComponent;
+                    }
+                }
+            }
+            pathCosts[i] = componentCost + (previousComponents[i] < 0 ? 0 : pathCosts[previousComponents[i]]);
+            if (lastComponent < 0 || pathCosts[i] > pathCosts[lastComponent]) {
+                lastComponent = i;
+            }
+        }
+        List<List<String>> path = new ArrayList<>();
+        for (int i = lastComponent; i >= 0; i = previousComponents[i]) {
+            path.add(components.get(i));
+        }
+        Collections.reverse(path);
+        return path.stream().flatMap(List::stream).toList();
+    }
+
+    public String toDot(Map<String, Long> costNanos) {
+        Set<String> criticalPath = new HashSet<>(getCriticalPath(costNanos));
+        StringBuilder dot = new StringBuilder("digraph beans {\n    node [shape=box];\n");
+        for (Map.Entry<String, String> entry : classNames.entrySet()) {
+            String beanId = entry.getKey();
+            dot.append("    ").append(quote(beanId)).append(" [label=")
+                    .append(quote(beanId + "\n" + entry.getValue() + "\n" + formatNanos(costNanos.getOrDefault(beanId, 0L))))
+                    .append(criticalPath.contains(beanId) ? ", color=red" : "").append("];\n");
+        }
+        for (Dependency dependency : danglingDependencies) {
+            dot.append("    ").append(quote(dependency.getRefBeanId())).append(" [style=dashed];\n");
+        }
+        for (List<Dependency> beanDependencies : dependencies.values()) {
+            for (Dependency dependency : beanDependencies) {
+                dot.append("    ").append(quote(dependency.getBeanId())).append(" -> ")
+                        .append(quote(dependency.getRefBeanId())).append(" [label=").append(quote(dependency.getName()))
+                        .append(dependency.isConstructorArgument() ? ", style=bold" : "").append("];\n");
+            }
+        }
+        return dot.append("}\n").toString();
+    }
+
+    public String toJson(Map<String, Long> costNanos) {
+        StringBuilder json = new StringBuilder("{\"beans\":[");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : classNames.entrySet()) {
+            String beanId = entry.getKey();
+            json.append(first ? "" : ",").append("{\"id\":");
+            JsonStrings.appendString(json, beanId);
+            json.append(",\"className\":");
+            JsonStrings.appendString(json, entry.getValue());
+            json.append(",\"level\":").append(beanLevels.get(beanId))
+                    .append(",\"costNanos\":").append(costNanos.getOrDefault(beanId, 0L)).append(",\"dependencies\":[");
+            List<Dependency> beanDependencies = dependencies.get(beanId);
+            for (int i = 0; i < beanDependencies.size(); i++) {
+                Dependency dependency = beanDependencies.get(i);
+                json.append(i == 0 ? "" : ",").append("{\"ref\":");
+                JsonStrings.appendString(json, dependency.getRefBeanId());
+                json.append(",\"name\":");
+                JsonStrings.appendString(json, dependency.getName());
+                json.append(",\"constructorArgument\":").append(dependency.isConstructorArgument()).append('}');
+            }
+            json.append("]}");
+            first = false;
+        }
+        json.append("],\"danglingDependencies\":[");
+        appendPaths(json, danglingDependencies.stream().map(List::of).toList());
+        json.append("],\"cycles\":[");
+        appendPaths(json, getCycles());
+        List<String> criticalPath = getCriticalPath(costNanos);
+        json.append("],\"criticalPath\":{\"costNanos\":")
+                .append(criticalPath.stream().mapToLong(beanId -> costNanos.getOrDefault(beanId, 0L)).sum())
+                .append(",\"beans\":[");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            json.append(i == 0 ? "" : ",");
+            JsonStrings.appendString(json, criticalPath.get(i));
+        }
+        return json.append("]}}").toString();
+    }
+
+    // a.mailService -> b.constructor[0] -> a
+    public static String formatPath(List<Dependency> path) {
+        StringBuilder formattedPath = new StringBuilder();
+        for (Dependency dependency : path) {
+            formattedPath.append(dependency.getBeanId()).append('.').append(dependency.getName()).append(" -> ");
+        }
+        return formattedPath.append(path.get(path.size() - 1).getRefBeanId()).toString();
+    }
+
+    private List<Dependency> getResolvedDependencies(String beanId, Predicate<Dependency> filter) {
+        List<Dependency> resolvedDependencies = new ArrayList<>();
+        for (Dependency dependency : dependencies.get(beanId)) {
+            if (filter.test(dependency) && dependencies.containsKey(dependency.getRefBeanId())) {
+                resolvedDependencies.add(dependency);
+            }
+        }
+        return resolvedDependencies;
+    }
+
+    // Iterative Tarjan, deep ref chains must not overflow the stack.
+    private List<List<String>> findComponents(Predicate<Dependency> filter) {
+        Map<String, Integer> indexes = new HashMap<>();
+        Map<String, Integer> lowLinks = new HashMap<>();
+        Deque<String> componentStack = new ArrayDeque<>();
+        Set<String> onComponentStack = new HashSet<>();
+        List<List<String>> foundComponents = new ArrayList<>();
+        Deque<Map.Entry<String, Iterator<Dependency>>> callStack = new ArrayDeque<>();
+        for (String rootId : dependencies.keySet()) {
+            if (indexes.containsKey(rootId)) {
+                continue;
+            }
+            visit(rootId, filter, indexes, lowLinks, componentStack, onComponentStack, callStack);
+            while (!callStack.isEmpty()) {
+                Map.Entry<String, Iterator<Dependency>> frame = callStack.peek();
+                String beanId = frame.getKey();
+                if (frame.getValue().hasNext()) {
+                    String refBeanId = frame.getValue().next().getRefBeanId();
+                    if (!indexes.containsKey(refBeanId)) {
+                        visit(refBeanId, filter, indexes, lowLinks, componentStack, onComponentStack, callStack);
+                    } else if (onComponentStack.contains(refBeanId)) {
+                        lowLinks.put(beanId, Math.min(lowLinks.get(beanId), indexes.get(refBeanId)));
+                    }
+                    continue;
+                }
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    String parentId = callStack.peek().getKey();
+                    lowLinks.put(parentId, Math.min(lowLinks.get(parentId), lowLinks.get(beanId)));
+                }
+                if (lowLinks.get(beanId).equals(indexes.get(beanId))) {
+                    List<String> component = new ArrayList<>();
+                    String memberId;
+                    do {
+                        memberId = componentStack.pop();
+                        onComponentStack.remove(memberId);
+                        component.add(memberId);
+                    } while (!memberId.equals(beanId));
+                    Collections.sort(component);
+                    foundComponents.add(component);
+                }
+            }
+        }
+        return foundComponents;
+    }
+
+    private void visit(String beanId, Predicate<Dependency> filter, Map<String, Integer> indexes,
+                       Map<String, Integer> lowLinks, Deque<String> componentStack, Set<String> onComponentStack,
+                       Deque<Map.Entry<String, Iterator<Dependency>>> callStack) {
+        indexes.put(beanId, indexes.size());
+        lowLinks.put(beanId, indexes.get(beanId));
+        componentStack.push(beanId);
+        onComponentStack.add(beanId);
+        callStack.push(Map.entry(beanId, getResolvedDependencies(beanId, filter).iterator()));
+    }
+
+    private List<List<Dependency>> findCycles(List<List<String>> foundComponents, Predicate<Dependency> filter) {
+        List<List<Dependency>> cycles = new ArrayList<>();
+        for (List<String> component : foundComponents) {
+            List<Dependency> cycle = findCycle(component, filter);
+            if (cycle != null) {
+                cycles.add(cycle);
+            }
+        }
+        return cycles;
+    }
+
+    // Breadth first from the first bean of the component, so the reported cycle is a shortest one.
+    private List<Dependency> findCycle(List<String> component, Predicate<Dependency> filter) {
+        String startId = component.get(0);
+        Set<String> members = new HashSet<>(component);
+        Map<String, Dependency> reachedBy = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>(List.of(startId));
+        while (!queue.isEmpty()) {
+            String beanId = queue.poll();
+            for (Dependency dependency : getResolvedDependencies(beanId, filter)) {
+                String refBeanId = dependency.getRefBeanId();
+                if (refBeanId.equals(startId)) {
+                    List<Dependency> cycle = new ArrayList<>(List.of(dependency));
+                    for (String currentId = beanId; !currentId.equals(startId); ) {
+                        Dependency previousDependency = reachedBy.get(currentId);
+                        cycle.add(previousDependency);
+                        currentId = previousDependency.getBeanId();
+                    }
+                    Collections.reverse(cycle);
+                    return cycle;
+                }
+                if (members.contains(refBeanId) && !reachedBy.containsKey(refBeanId)) {
+                    reachedBy.put(refBeanId, dependency);
+                    queue.add(refBeanId);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void appendPaths(StringBuilder json, List<List<Dependency>> paths) {
+        for (int i = 0; i < paths.size(); i++) {
+            json.append(i == 0 ? "" : ",");
+            JsonStrings.appendString(json, formatPath(paths.get(i)));
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.ioc.json;
+
+// String escaping shared by the JSON reports of the startup tracker and the dependency graph
+public final class JsonStrings {
+
+    private JsonStrings() {
+    }
+
+    public static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                json.append('\\').append(character);
+            } else if (character < 0x20) {
+                json.append(String.format("\\u%04x", (int) character));
+            } else {
+                json.append(character);
+            }
+        }
+        json.append('"');
+    }
+}
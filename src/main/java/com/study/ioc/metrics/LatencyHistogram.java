@@ -0,0 +1,43 @@
+package com.study.ioc.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Power of two buckets: bucket i counts latencies below 2^i nanoseconds, so
+// recording is a leading zero count and one striped increment.
+class LatencyHistogram {
+    static final int BUCKET_COUNT = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalNanos = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+}
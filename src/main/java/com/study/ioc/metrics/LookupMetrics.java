@@ -0,0 +1,163 @@
+package com.study.ioc.metrics;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LookupMetrics implements LookupMetricsMXBean {
+    public static final String OTHER_KEY = "(other)";
+    private static final int HOT_LOOKUP_LIMIT = 20;
+    private static final int DEFAULT_MAX_KEYS_PER_KIND = 1024;
+
+    private final Map<LookupKind, Counter> kindCounters = new EnumMap<>(LookupKind.class);
+    private final Map<LookupKind, Map<String, Counter>> keyCounters = new EnumMap<>(LookupKind.class);
+    private final int maxKeysPerKind;
+
+    public LookupMetrics() {
+        this(DEFAULT_MAX_KEYS_PER_KIND);
+    }
+
+    public LookupMetrics(int maxKeysPerKind) {
+        if (maxKeysPerKind < 1) {
+            throw new IllegalArgumentException("Can`t track less than one lookup key per kind, got " + maxKeysPerKind);
+        }
+        this.maxKeysPerKind = maxKeysPerKind;
+        for (LookupKind kind : LookupKind.values()) {
+            kindCounters.put(kind, new Counter());
+            keyCounters.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void record(LookupKind kind, String key, long nanos, boolean hit) {
+        kindCounters.get(kind).record(nanos, hit);
+        Map<String, Counter> counters = keyCounters.get(kind);
+        // Misses are keyed by whatever the caller asked for, so they share the overflow bucket with
+        // the keys past the limit; the limit is checked without a lock and may be passed by a few keys.
+        String trackedKey = hit ? key : OTHER_KEY;
+        Counter counter = counters.get(trackedKey);
+        if (counter == null) {
+            if (counters.size() >= maxKeysPerKind) {
+                trackedKey = OTHER_KEY;
+            }
+            counter = counters.computeIfAbsent(trackedKey, newKey -> new Counter());
+        }
+        counter.record(nanos, hit);
+    }
+
+    public List<LookupStatistics> getKindStatistics() {
+        List<LookupStatistics> statistics = new ArrayList<>();
+        kindCounters.forEach((kind, counter) -> statistics.add(counter.toStatistics(kind, kind.name())));
+        return statistics;
+    }
+
+    public List<LookupStatistics> getKeyStatistics() {
+        List<LookupStatistics> statistics = new ArrayList<>();
+        keyCounters.forEach((kind, counters) ->
+                counters.forEach((key, counter) -> statistics.add(counter.toStatistics(kind, key))));
+        statistics.sort(Comparator.comparingLong(LookupStatistics::getCount).reversed());
+        return statistics;
+    }
+
+    public void export(LookupMetricsExporter exporter) {
+        exporter.export(getKindStatistics(), getKeyStatistics());
+    }
+
+    public ObjectName registerMBean(String contextName) {
+        try {
+            ObjectName objectName = new ObjectName("com.study.ioc:type=LookupMetrics,context="
+                    + ObjectName.quote(contextName));
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            mBeanServer.registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException exception) {
+            throw new BeanInstantiationException("Can`t register lookup metrics of context " + contextName, exception);
+        }
+    }
+
+    @Override
+    public long getLookupCount() {
+        return kindCounters.values().stream().mapToLong(counter -> counter.count.sum()).sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return kindCounters.values().stream().mapToLong(counter -> counter.misses.sum()).sum();
+    }
+
+    @Override
+    public Map<String, Long> getLookupCountsByKind() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        kindCounters.forEach((kind, counter) -> counts.put(kind.name(), counter.count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMissCountsByKind() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        kindCounters.forEach((kind, counter) -> counts.put(kind.name(), counter.misses.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getP99NanosByKind() {
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        for (LookupStatistics statistics : getKindStatistics()) {
+            percentiles.put(statistics.getKind().name(), statistics.getPercentileNanos(99));
+        }
+        return percentiles;
+    }
+
+    @Override
+    public Map<String, Long> getHotLookups() {
+        Map<String, Long> hotLookups = new LinkedHashMap<>();
+        for (LookupStatistics statistics : getKeyStatistics()) {
+            if (hotLookups.size() == HOT_LOOKUP_LIMIT) {
+                break;
+            }
+            hotLookups.put(statistics.getKind() + " " + statistics.getKey(), statistics.getCount());
+        }
+        return hotLookups;
+    }
+
+    @Override
+    public void reset() {
+        kindCounters.values().forEach(Counter::reset);
+        keyCounters.values().forEach(Map::clear);
+    }
+
+    private static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        private void record(long nanos, boolean hit) {
+            count.increment();
+            if (!hit) {
+                misses.increment();
+            }
+            latencies.record(nanos);
+        }
+
+        private LookupStatistics toStatistics(LookupKind kind, String key) {
+            return new LookupStatistics(kind, key, count.sum(), misses.sum(), latencies.getTotalNanos(),
+                    latencies.getBucketCounts());
+        }
+
+        private void reset() {
+            count.reset();
+            misses.reset();
+            latencies.reset();
+        }
+    }
+}
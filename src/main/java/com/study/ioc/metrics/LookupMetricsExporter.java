@@ -0,0 +1,8 @@
+package com.study.ioc.metrics;
+
+import java.util.List;
+
+public interface LookupMetricsExporter {
+
+    void export(List<LookupStatistics> kindStatistics, List<LookupStatistics> keyStatistics);
+}
@@ -0,0 +1,20 @@
+package com.study.ioc.metrics;
+
+import java.util.Map;
+
+public interface LookupMetricsMXBean {
+
+    long getLookupCount();
+
+    long getMissCount();
+
+    Map<String, Long> getLookupCountsByKind();
+
+    Map<String, Long> getMissCountsByKind();
+
+    Map<String, Long> getP99NanosByKind();
+
+    Map<String, Long> getHotLookups();
+
+    void reset();
+}
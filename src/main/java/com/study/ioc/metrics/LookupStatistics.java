@@ -0,0 +1,45 @@
+package com.study.ioc.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class LookupStatistics {
+    private final LookupKind kind;
+    private final String key;
+    private final long count;
+    private final long misses;
+    private final long totalNanos;
+    @Getter(AccessLevel.NONE)
+    private final long[] bucketCounts;
+
+    LookupStatistics(LookupKind kind, String key, long count, long misses, long totalNanos, long[] bucketCounts) {
+        this.kind = kind;
+        this.key = key;
+        this.count = count;
+        this.misses = misses;
+        this.totalNanos = totalNanos;
+        this.bucketCounts = bucketCounts;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    // Upper bound of the bucket holding the given percentile.
+    public long getPercentileNanos(double percentile) {
+        long recorded = 0;
+        for (long bucketCount : bucketCounts) {
+            recorded += bucketCount;
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank && seen > 0) {
+                return 1L << i;
+            }
+        }
+        return 0;
+    }
+}
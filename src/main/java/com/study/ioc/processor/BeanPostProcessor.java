@@ -6,4 +6,8 @@ public interface BeanPostProcessor {
     Object postProcessBeforeInitialization(String beanName, Bean bean);
 
     Object postProcessAfterInitialization(String beanName, Bean bean);
+
+    default boolean appliesTo(Class<?> beanClass) {
+        return true;
+    }
 }
\ No newline at end of file
@@ -4,6 +4,11 @@ import com.study.ioc.entity.Bean;
 import com.study.ioc.service.MessageService;
 
 public class CustomBeanPostProcessor implements BeanPostProcessor {
+    @Override
+    public boolean appliesTo(Class<?> beanClass) {
+        return beanClass.equals(MessageService.class);
+    }
+
     @Override
     public Object postProcessBeforeInitialization(String beanName, Bean bean) {
         Object object = bean.getValue();
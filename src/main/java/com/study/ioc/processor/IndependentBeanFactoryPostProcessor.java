@@ -0,0 +1,17 @@
+package com.study.ioc.processor;
+
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.Map;
+
+// A processor that looks at one definition at a time, never at its neighbours,
+// so the context may run it on disjoint sets of definitions in parallel.
+public interface IndependentBeanFactoryPostProcessor extends BeanFactoryPostProcessor {
+
+    void postProcessBeanDefinition(BeanDefinition beanDefinition);
+
+    @Override
+    default void postProcessBeanFactory(Map<String, BeanDefinition> beanDefinitionsMap) {
+        beanDefinitionsMap.values().forEach(this::postProcessBeanDefinition);
+    }
+}
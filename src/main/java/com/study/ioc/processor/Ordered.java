@@ -0,0 +1,8 @@
+package com.study.ioc.processor;
+
+public interface Ordered {
+    int HIGHEST_PRECEDENCE = Integer.MIN_VALUE;
+    int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+
+    int getOrder();
+}
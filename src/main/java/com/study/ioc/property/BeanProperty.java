@@ -0,0 +1,16 @@
+package com.study.ioc.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+@Getter
+@AllArgsConstructor
+public class BeanProperty {
+    private final String name;
+    private final Method setter;
+    private final Class<?> type;
+    private final Type genericType;
+}
@@ -0,0 +1,77 @@
+package com.study.ioc.property;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class BeanPropertyCache {
+    private static final BeanPropertyCache DEFAULT_CACHE = new BeanPropertyCache();
+
+    private final ClassValue<ClassProperties> propertiesByClass = new ClassValue<>() {
+        @Override
+        protected ClassProperties computeValue(Class<?> clazz) {
+            return findProperties(clazz);
+        }
+    };
+
+    public static BeanPropertyCache getDefault() {
+        return DEFAULT_CACHE;
+    }
+
+    public BeanProperty getProperty(Class<?> clazz, String propertyName) {
+        ClassProperties classProperties = propertiesByClass.get(clazz);
+        String setterName = PropertyNames.toSetterName(propertyName);
+        if (classProperties.overloadedSetterNames.contains(setterName)) {
+            throw new BeanInstantiationException("Can`t choose between overloaded setters of property "
+                    + propertyName + " of " + clazz.getName());
+        }
+        return classProperties.propertiesBySetterName.get(setterName);
+    }
+
+    // Properties with overloaded setters are left out, they can't be resolved by name alone
+    public Map<String, BeanProperty> getProperties(Class<?> clazz) {
+        return propertiesByClass.get(clazz).properties;
+    }
+
+    private ClassProperties findProperties(Class<?> clazz) {
+        Map<String, BeanProperty> propertiesBySetterName = new HashMap<>();
+        Set<String> overloadedSetterNames = new HashSet<>();
+        for (Method method : clazz.getMethods()) {
+            String methodName = method.getName();
+            if (PropertyNames.isSetterName(methodName) && method.getParameterCount() == 1 && !method.isBridge()
+                    && !Modifier.isStatic(method.getModifiers())) {
+                BeanProperty previousProperty = propertiesBySetterName.putIfAbsent(methodName,
+                        new BeanProperty(PropertyNames.toPropertyName(methodName), method,
+                                method.getParameterTypes()[0], method.getGenericParameterTypes()[0]));
+                if (previousProperty != null) {
+                    overloadedSetterNames.add(methodName);
+                }
+            }
+        }
+        propertiesBySetterName.keySet().removeAll(overloadedSetterNames);
+        Map<String, BeanProperty> properties = new HashMap<>();
+        for (BeanProperty property : propertiesBySetterName.values()) {
+            properties.put(property.getName(), property);
+        }
+        return new ClassProperties(Map.copyOf(propertiesBySetterName), Map.copyOf(properties),
+                Set.copyOf(overloadedSetterNames));
+    }
+
+    private static class ClassProperties {
+        private final Map<String, BeanProperty> propertiesBySetterName;
+        private final Map<String, BeanProperty> properties;
+        private final Set<String> overloadedSetterNames;
+
+        private ClassProperties(Map<String, BeanProperty> propertiesBySetterName, Map<String, BeanProperty> properties,
+                                Set<String> overloadedSetterNames) {
+            this.propertiesBySetterName = propertiesBySetterName;
+            this.properties = properties;
+            this.overloadedSetterNames = overloadedSetterNames;
+        }
+    }
+}
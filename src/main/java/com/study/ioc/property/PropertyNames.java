@@ -0,0 +1,28 @@
+package com.study.ioc.property;
+
+// The one mapping between property names and setters, shared by reflective contexts, compiled contexts
+// and the component index. A property resolves through its setter name, so xCoordinate and XCoordinate
+// both reach setXCoordinate, and URL and uRL both reach setURL.
+public final class PropertyNames {
+    private static final String SETTER_PREFIX = "set";
+
+    private PropertyNames() {
+    }
+
+    public static boolean isSetterName(String methodName) {
+        return methodName.length() > SETTER_PREFIX.length() && methodName.startsWith(SETTER_PREFIX);
+    }
+
+    public static String toSetterName(String propertyName) {
+        return SETTER_PREFIX + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    // Same rule as java.beans.Introspector.decapitalize: setURL is property URL, setUrl is url
+    public static String toPropertyName(String setterName) {
+        String name = setterName.substring(SETTER_PREFIX.length());
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
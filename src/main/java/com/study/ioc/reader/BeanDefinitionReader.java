@@ -3,7 +3,12 @@ package com.study.ioc.reader;
 import com.study.ioc.entity.BeanDefinition;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface BeanDefinitionReader {
     Map<String, BeanDefinition> getBeanDefinition();
+
+    default void readBeanDefinitions(Consumer<BeanDefinition> consumer) {
+        getBeanDefinition().values().forEach(consumer);
+    }
 }
@@ -0,0 +1,28 @@
+package com.study.ioc.reader;
+
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+
+public final class ConstructorArguments {
+
+    private ConstructorArguments() {
+    }
+
+    public static ConstructorArgument create(String index, String value, String ref) {
+        if ((value == null) == (ref == null)) {
+            throw new ParseContextException("Constructor argument needs either value or ref");
+        }
+        if (index == null) {
+            return new ConstructorArgument(null, value, ref);
+        }
+        try {
+            int argumentIndex = Integer.parseInt(index.trim());
+            if (argumentIndex < 0) {
+                throw new ParseContextException("Invalid constructor argument index " + index);
+            }
+            return new ConstructorArgument(argumentIndex, value, ref);
+        } catch (NumberFormatException exception) {
+            throw new ParseContextException("Invalid constructor argument index " + index);
+        }
+    }
+}
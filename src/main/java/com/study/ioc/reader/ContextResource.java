@@ -0,0 +1,28 @@
+package com.study.ioc.reader;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class ContextResource {
+
+    private ContextResource() {
+    }
+
+    public static URL locate(String path) {
+        URL resource = ContextResource.class.getClassLoader().getResource(path);
+        if (resource != null) {
+            return resource;
+        }
+        Path file = Path.of(path);
+        if (Files.isRegularFile(file)) {
+            try {
+                return file.toUri().toURL();
+            } catch (MalformedURLException exception) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// One tab separated record per line, the property, ref and argument records belong to the bean above them:
+//   bean <id> <class> <scope> <lazy-init>
+//   value <property> <value>
+//   ref <property> <bean id>
+//   arg <index> value|ref <value or bean id>
+// Tabs, line breaks and backslashes inside values are escaped.
+final class ComponentIndex {
+    static final String LOCATION = "META-INF/ioc.components";
+
+    private static final String BEAN = "bean";
+    private static final String VALUE = "value";
+    private static final String REF = "ref";
+    private static final String ARGUMENT = "arg";
+
+    private ComponentIndex() {
+    }
+
+    static void write(Writer writer, Collection<BeanDefinition> beanDefinitions) throws IOException {
+        writer.write("# Generated by ComponentIndexProcessor\n");
+        for (BeanDefinition beanDefinition : beanDefinitions) {
+            writeRecord(writer, BEAN, beanDefinition.getId(), beanDefinition.getClassName(),
+                    beanDefinition.getScope() == null ? "" : beanDefinition.getScope(),
+                    String.valueOf(Boolean.TRUE.equals(beanDefinition.getLazyInit())));
+            for (Map.Entry<String, String> dependency : beanDefinition.getValueDependencies().entrySet()) {
+                writeRecord(writer, VALUE, dependency.getKey(), dependency.getValue());
+            }
+            for (Map.Entry<String, String> dependency : beanDefinition.getRefDependencies().entrySet()) {
+                writeRecord(writer, REF, dependency.getKey(), dependency.getValue());
+            }
+            for (ConstructorArgument argument : beanDefinition.getConstructorArguments()) {
+                writeRecord(writer, ARGUMENT, String.valueOf(argument.getIndex()),
+                        argument.getRef() == null ? VALUE : REF,
+                        argument.getRef() == null ? argument.getValue() : argument.getRef());
+            }
+        }
+    }
+
+    static List<BeanDefinition> read(Reader reader, String source) throws IOException {
+        List<BeanDefinition> beanDefinitions = new ArrayList<>();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        BeanDefinition beanDefinition = null;
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = unescape(fields[i]);
+            }
+            if (fields[0].equals(BEAN) && fields.length == 5) {
+                beanDefinition = new BeanDefinition(fields[1], fields[2]);
+                beanDefinition.setScope(fields[3].isEmpty() ? null : fields[3]);
+                beanDefinition.setLazyInit(Boolean.parseBoolean(fields[4]) ? Boolean.TRUE : null);
+                beanDefinitions.add(beanDefinition);
+            } else if (beanDefinition != null && fields[0].equals(VALUE) && fields.length == 3) {
+                beanDefinition.getValueDependencies().put(fields[1], fields[2]);
+            } else if (beanDefinition != null && fields[0].equals(REF) && fields.length == 3) {
+                beanDefinition.getRefDependencies().put(fields[1], fields[2]);
+            } else if (beanDefinition != null && fields[0].equals(ARGUMENT) && fields.length == 4) {
+                boolean ref = fields[2].equals(REF);
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(parseIndex(fields[1], source),
+                        ref ? null : fields[3], ref ? fields[3] : null));
+            } else {
+                throw new ParseContextException("Invalid component index record in " + source + ": " + line);
+            }
+        }
+        return beanDefinitions;
+    }
+
+    private static int parseIndex(String index, String source) {
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException exception) {
+            throw new ParseContextException("Invalid constructor argument index " + index + " in " + source);
+        }
+    }
+
+    private static void writeRecord(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write('\t');
+            }
+            writer.write(escape(fields[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                builder.append(switch (escaped) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> escaped;
+                });
+            } else {
+                builder.append(character);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.annotation.Component;
+import com.study.ioc.annotation.Inject;
+import com.study.ioc.annotation.Value;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.property.PropertyNames;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Writes the definitions of all @Component classes of a compilation to META-INF/ioc.components, so
+// ComponentIndexReader gets annotation based configuration without looking at a single class file.
+@SupportedAnnotationTypes("com.study.ioc.annotation.Component")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, BeanDefinition> beanDefinitions = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(Component.class)) {
+            try {
+                BeanDefinition beanDefinition = createBeanDefinition((TypeElement) element);
+                BeanDefinition previousDefinition = beanDefinitions.putIfAbsent(beanDefinition.getId(), beanDefinition);
+                if (previousDefinition != null) {
+                    throw new ParseContextException("Bean " + beanDefinition.getId() + " is defined by both "
+                            + previousDefinition.getClassName() + " and " + beanDefinition.getClassName());
+                }
+            } catch (ParseContextException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), element);
+            }
+        }
+        if (roundEnvironment.processingOver() && !beanDefinitions.isEmpty()) {
+            writeIndex();
+        }
+        return true;
+    }
+
+    private BeanDefinition createBeanDefinition(TypeElement type) {
+        String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new ParseContextException("Component " + className + " must be a public concrete top level or static class");
+        }
+        Component component = type.getAnnotation(Component.class);
+        String id = component.value().isEmpty() ? toBeanId(type.getSimpleName().toString()) : component.value();
+        BeanDefinition beanDefinition = new BeanDefinition(id, className);
+        beanDefinition.setScope(component.scope().isEmpty() ? null : component.scope());
+        beanDefinition.setLazyInit(component.lazyInit() ? Boolean.TRUE : null);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            Inject inject = method.getAnnotation(Inject.class);
+            Value value = method.getAnnotation(Value.class);
+            if (inject == null && value == null) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            if (!PropertyNames.isSetterName(methodName) || method.getParameters().size() != 1 || !method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)) {
+                throw new ParseContextException("Only public setters can be injected, " + className + "." + methodName + " is not one");
+            }
+            String propertyName = PropertyNames.toPropertyName(methodName);
+            if (value != null) {
+                beanDefinition.getValueDependencies().put(propertyName, value.value());
+            } else {
+                beanDefinition.getRefDependencies().put(propertyName, inject.value().isEmpty() ? propertyName : inject.value());
+            }
+        }
+
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getAnnotation(Inject.class) != null)
+                .toList();
+        if (constructors.size() > 1) {
+            throw new ParseContextException("Component " + className + " has more than one @Inject constructor");
+        }
+        if (constructors.isEmpty()) {
+            return beanDefinition;
+        }
+        List<? extends VariableElement> parameters = constructors.get(0).getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            VariableElement parameter = parameters.get(i);
+            Value value = parameter.getAnnotation(Value.class);
+            Inject inject = parameter.getAnnotation(Inject.class);
+            if (value != null) {
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(i, value.value(), null));
+            } else {
+                String ref = inject == null || inject.value().isEmpty() ? parameter.getSimpleName().toString() : inject.value();
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(i, null, ref));
+            }
+        }
+        return beanDefinition;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                ComponentIndex.write(writer, beanDefinitions.values());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can`t write " + ComponentIndex.LOCATION + ": " + exception.getMessage());
+        }
+    }
+
+    // Default bean ids only lowercase the first letter of the class name; property names come from PropertyNames
+    static String toBeanId(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.reader.BeanDefinitionReader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reads the component indexes written at compile time by ComponentIndexProcessor, one per classpath
+// entry, and keeps the components of the given packages (all of them when no package is given).
+public class ComponentIndexReader implements BeanDefinitionReader {
+    private final String[] basePackages;
+
+    public ComponentIndexReader(String... basePackages) {
+        this.basePackages = basePackages;
+    }
+
+    @Override
+    public Map<String, BeanDefinition> getBeanDefinition() {
+        List<URL> indexes;
+        try {
+            indexes = Collections.list(ComponentIndexReader.class.getClassLoader().getResources(ComponentIndex.LOCATION));
+        } catch (IOException exception) {
+            throw new ParseContextException("Can`t find component indexes");
+        }
+        if (indexes.isEmpty()) {
+            throw new ParseContextException("No " + ComponentIndex.LOCATION + " found, is ComponentIndexProcessor on the processor path?");
+        }
+
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        Map<String, URL> beanDefinitionIndexes = new HashMap<>();
+        for (URL index : indexes) {
+            for (BeanDefinition beanDefinition : readIndex(index)) {
+                if (!isInBasePackages(beanDefinition.getClassName())) {
+                    continue;
+                }
+                URL previousIndex = beanDefinitionIndexes.putIfAbsent(beanDefinition.getId(), index);
+                if (previousIndex != null) {
+                    throw new ParseContextException("Bean " + beanDefinition.getId() + " is defined in both "
+                            + previousIndex + " and " + index);
+                }
+                beanDefinitionMap.put(beanDefinition.getId(), beanDefinition);
+            }
+        }
+        return beanDefinitionMap;
+    }
+
+    private List<BeanDefinition> readIndex(URL index) {
+        try (Reader reader = new InputStreamReader(index.openStream(), StandardCharsets.UTF_8)) {
+            return ComponentIndex.read(reader, index.toString());
+        } catch (IOException exception) {
+            throw new ParseContextException("Context parse failed for " + index);
+        }
+    }
+
+    private boolean isInBasePackages(String className) {
+        if (basePackages.length == 0) {
+            return true;
+        }
+        for (String basePackage : basePackages) {
+            if (className.startsWith(basePackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
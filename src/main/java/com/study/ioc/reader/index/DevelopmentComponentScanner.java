@@ -0,0 +1,182 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.annotation.Component;
+import com.study.ioc.annotation.Inject;
+import com.study.ioc.annotation.Value;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.property.PropertyNames;
+import com.study.ioc.reader.BeanDefinitionReader;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+// For development only, when the component index is missing or stale: walks the classpath below the given
+// packages and loads every class on each start, in parallel, which is exactly the work the index avoids.
+// Constructor parameters without @Inject("id") need classes compiled with -parameters.
+public class DevelopmentComponentScanner implements BeanDefinitionReader {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final String[] basePackages;
+    private final ClassLoader classLoader = DevelopmentComponentScanner.class.getClassLoader();
+
+    public DevelopmentComponentScanner(String... basePackages) {
+        if (basePackages.length == 0) {
+            throw new IllegalArgumentException("At least one package to scan is needed");
+        }
+        this.basePackages = basePackages;
+    }
+
+    @Override
+    public Map<String, BeanDefinition> getBeanDefinition() {
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            findClassNames(basePackage, classNames);
+        }
+        List<BeanDefinition> beanDefinitions = classNames.parallelStream()
+                .map(this::loadClass)
+                .filter(Objects::nonNull)
+                .filter(clazz -> clazz.isAnnotationPresent(Component.class))
+                .map(DevelopmentComponentScanner::createBeanDefinition)
+                .toList();
+
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        for (BeanDefinition beanDefinition : beanDefinitions) {
+            BeanDefinition previousDefinition = beanDefinitionMap.putIfAbsent(beanDefinition.getId(), beanDefinition);
+            if (previousDefinition != null) {
+                throw new ParseContextException("Bean " + beanDefinition.getId() + " is defined by both "
+                        + previousDefinition.getClassName() + " and " + beanDefinition.getClassName());
+            }
+        }
+        return beanDefinitionMap;
+    }
+
+    private void findClassNames(String basePackage, Set<String> classNames) {
+        String packagePath = basePackage.replace('.', '/');
+        try {
+            Enumeration<URL> roots = classLoader.getResources(packagePath);
+            for (URL root : Collections.list(roots)) {
+                if (root.getProtocol().equals("jar")) {
+                    findJarClassNames(root, packagePath, classNames);
+                } else if (root.getProtocol().equals("file")) {
+                    findDirectoryClassNames(Path.of(root.toURI()), basePackage, classNames);
+                }
+            }
+        } catch (IOException | URISyntaxException exception) {
+            throw new ParseContextException("Can`t scan package " + basePackage);
+        }
+    }
+
+    private static void findJarClassNames(URL root, String packagePath, Set<String> classNames) throws IOException {
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                String name = entry.getName();
+                if (name.startsWith(packagePath + "/") && isClassFile(name)) {
+                    classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+                }
+            }
+        }
+    }
+
+    private static void findDirectoryClassNames(Path directory, String basePackage, Set<String> classNames)
+            throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> isClassFile(file.getFileName().toString()))
+                    .map(file -> directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "."))
+                    .map(name -> basePackage + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()))
+                    .forEach(classNames::add);
+        }
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(CLASS_SUFFIX) && !name.endsWith("package-info.class") && !name.endsWith("module-info.class");
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return null;
+        }
+    }
+
+    private static BeanDefinition createBeanDefinition(Class<?> clazz) {
+        int modifiers = clazz.getModifiers();
+        if (clazz.isInterface() || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
+                || clazz.isMemberClass() && !Modifier.isStatic(modifiers)) {
+            throw new ParseContextException("Component " + clazz.getName() + " must be a public concrete top level or static class");
+        }
+        Component component = clazz.getAnnotation(Component.class);
+        String id = component.value().isEmpty() ? ComponentIndexProcessor.toBeanId(clazz.getSimpleName()) : component.value();
+        BeanDefinition beanDefinition = new BeanDefinition(id, clazz.getName());
+        beanDefinition.setScope(component.scope().isEmpty() ? null : component.scope());
+        beanDefinition.setLazyInit(component.lazyInit() ? Boolean.TRUE : null);
+
+        for (Method method : clazz.getMethods()) {
+            Inject inject = method.getAnnotation(Inject.class);
+            Value value = method.getAnnotation(Value.class);
+            if (inject == null && value == null) {
+                continue;
+            }
+            String methodName = method.getName();
+            if (!PropertyNames.isSetterName(methodName) || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) {
+                throw new ParseContextException("Only public setters can be injected, " + clazz.getName() + "." + methodName + " is not one");
+            }
+            String propertyName = PropertyNames.toPropertyName(methodName);
+            if (value != null) {
+                beanDefinition.getValueDependencies().put(propertyName, value.value());
+            } else {
+                beanDefinition.getRefDependencies().put(propertyName, inject.value().isEmpty() ? propertyName : inject.value());
+            }
+        }
+
+        List<Constructor<?>> constructors = Arrays.stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> constructor.isAnnotationPresent(Inject.class))
+                .toList();
+        if (constructors.size() > 1) {
+            throw new ParseContextException("Component " + clazz.getName() + " has more than one @Inject constructor");
+        }
+        if (constructors.isEmpty()) {
+            return beanDefinition;
+        }
+        Parameter[] parameters = constructors.get(0).getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            Value value = parameters[i].getAnnotation(Value.class);
+            Inject inject = parameters[i].getAnnotation(Inject.class);
+            if (value != null) {
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(i, value.value(), null));
+            } else if (inject != null && !inject.value().isEmpty()) {
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(i, null, inject.value()));
+            } else if (parameters[i].isNamePresent()) {
+                beanDefinition.getConstructorArguments().add(new ConstructorArgument(i, null, parameters[i].getName()));
+            } else {
+                throw new ParseContextException("No bean id for parameter " + i + " of the constructor of "
+                        + clazz.getName() + ", compile with -parameters or use @Inject(\"id\")");
+            }
+        }
+        return beanDefinition;
+    }
+}
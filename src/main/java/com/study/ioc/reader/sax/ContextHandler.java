@@ -2,13 +2,16 @@ package com.study.ioc.reader.sax;
 
 import com.study.ioc.entity.BeanDefinition;
 import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.reader.ConstructorArguments;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 public class ContextHandler extends DefaultHandler {
+    private static final Set<String> BEAN_ATTRIBUTES = Set.of("id", "class", "lazy-init", "scope");
 
     private Map<String, BeanDefinition> beanDefinitions;
     private BeanDefinition beanDefinition;
@@ -35,8 +38,25 @@ public class ContextHandler extends DefaultHandler {
                 throw new ParseContextException("No specified class for bean");
             }
             beanDefinition = new BeanDefinition(id, clazzName);
+            String lazyInit = attributes.getValue("lazy-init");
+            if (lazyInit != null) {
+                beanDefinition.setLazyInit(Boolean.parseBoolean(lazyInit));
+            }
+            beanDefinition.setScope(attributes.getValue("scope"));
+            for (int i = 0; i < attributes.getLength(); i++) {
+                String attributeName = attributes.getQName(i);
+                if (!BEAN_ATTRIBUTES.contains(attributeName)) {
+                    beanDefinition.getScopeAttributes().put(attributeName, attributes.getValue(i));
+                }
+            }
             valueDependencies = new HashMap<>();
             refDependencies = new HashMap<>();
+        } else if (qName.equalsIgnoreCase("constructor-arg")) {
+            if (!bBean) {
+                throw new ParseContextException("No specified bean for constructor argument");
+            }
+            beanDefinition.getConstructorArguments().add(ConstructorArguments.create(attributes.getValue("index"),
+                    attributes.getValue("value"), attributes.getValue("ref")));
         } else if (qName.equalsIgnoreCase("property")) {
             if (!bBean) {
                 throw new ParseContextException("No specified bean for property");
@@ -3,6 +3,8 @@ package com.study.ioc.reader.sax;
 import com.study.ioc.entity.BeanDefinition;
 import com.study.ioc.exception.ParseContextException;
 import com.study.ioc.reader.BeanDefinitionReader;
+import com.study.ioc.reader.ContextResource;
+import lombok.Getter;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -11,11 +13,18 @@ import javax.xml.parsers.SAXParserFactory;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class XmlBeanDefinitionReader implements BeanDefinitionReader {
-    private String[] paths;
+    private static final SAXParserFactory SAX_PARSER_FACTORY = SAXParserFactory.newInstance();
+    private static final ThreadLocal<SAXParser> SAX_PARSERS = ThreadLocal.withInitial(XmlBeanDefinitionReader::createSaxParser);
+
+    @Getter
+    private final String[] paths;
 
     public XmlBeanDefinitionReader(String... paths) {
         this.paths = paths;
@@ -23,24 +32,61 @@ public class XmlBeanDefinitionReader implements BeanDefinitionReader {
 
     @Override
     public Map<String, BeanDefinition> getBeanDefinition() {
+        // A path listed twice is read once; an id in two different files is an error
+        String[] paths = Arrays.stream(this.paths).distinct().toArray(String[]::new);
+        if (paths.length == 1) {
+            return getBeanDefinitionMap(paths[0]);
+        }
+        List<Map<String, BeanDefinition>> beanDefinitionMaps = Arrays.stream(paths)
+                .parallel()
+                .map(this::getBeanDefinitionMap)
+                .toList();
+
         Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
-        for (String path : paths) {
-            ClassLoader classLoader = getClass().getClassLoader();
-            try (InputStream inputStream = new BufferedInputStream(classLoader.getResourceAsStream(path))) {
-                beanDefinitionMap.putAll(getBeanDefinitionMap(inputStream));
-            } catch (IOException | ParserConfigurationException | SAXException e) {
-                throw new ParseContextException("Context parse failed for " + path);
+        Map<String, String> beanDefinitionPaths = new HashMap<>();
+        for (int i = 0; i < paths.length; i++) {
+            for (Map.Entry<String, BeanDefinition> entry : beanDefinitionMaps.get(i).entrySet()) {
+                String previousPath = beanDefinitionPaths.putIfAbsent(entry.getKey(), paths[i]);
+                if (previousPath != null) {
+                    throw new ParseContextException("Bean " + entry.getKey() + " is defined in both "
+                            + previousPath + " and " + paths[i]);
+                }
+                beanDefinitionMap.put(entry.getKey(), entry.getValue());
             }
         }
         return beanDefinitionMap;
     }
 
-
     Map<String, BeanDefinition> getBeanDefinitionMap(InputStream inputStream) throws ParserConfigurationException, SAXException, IOException {
-        SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
-        SAXParser saxParser = saxParserFactory.newSAXParser();
-        ContextHandler handler = new ContextHandler();
-        saxParser.parse(inputStream, handler);
-        return handler.getBeanDefinitions();
+        SAXParser saxParser = SAX_PARSERS.get();
+        try {
+            ContextHandler handler = new ContextHandler();
+            saxParser.parse(inputStream, handler);
+            return handler.getBeanDefinitions();
+        } finally {
+            saxParser.reset();
+        }
+    }
+
+    private Map<String, BeanDefinition> getBeanDefinitionMap(String path) {
+        URL resource = ContextResource.locate(path);
+        if (resource == null) {
+            throw new ParseContextException("Context parse failed for " + path);
+        }
+        try (InputStream inputStream = new BufferedInputStream(resource.openStream())) {
+            return getBeanDefinitionMap(inputStream);
+        } catch (IOException | ParserConfigurationException | SAXException e) {
+            throw new ParseContextException("Context parse failed for " + path, e);
+        }
+    }
+
+    private static SAXParser createSaxParser() {
+        try {
+            synchronized (SAX_PARSER_FACTORY) {
+                return SAX_PARSER_FACTORY.newSAXParser();
+            }
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new ParseContextException("Can`t create SAX parser", e);
+        }
     }
 }
@@ -0,0 +1,217 @@
+package com.study.ioc.reader.snapshot;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+@Getter
+class BeanDefinitionSnapshot {
+    private static final int MAGIC = 0x494F4353;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int SOURCE_RECORD_SIZE = Integer.BYTES + Long.BYTES * 2;
+    private static final int BEAN_RECORD_SIZE = Integer.BYTES * 11 + 1;
+    private static final int ARGUMENT_RECORD_SIZE = Integer.BYTES * 3;
+    private static final int PROPERTY_RECORD_SIZE = Integer.BYTES * 2;
+
+    private final List<SourceStamp> sources;
+    private final Map<String, BeanDefinition> beanDefinitions;
+
+    BeanDefinitionSnapshot(List<SourceStamp> sources, Map<String, BeanDefinition> beanDefinitions) {
+        this.sources = sources;
+        this.beanDefinitions = beanDefinitions;
+    }
+
+    static BeanDefinitionSnapshot read(Path snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long checksum = buffer.getLong();
+            CRC32 crc32 = new CRC32();
+            crc32.update(buffer.slice());
+            if (crc32.getValue() != checksum) {
+                return null;
+            }
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            List<SourceStamp> sources = new ArrayList<>();
+            int sourceCount = buffer.getInt();
+            for (int i = 0; i < sourceCount; i++) {
+                sources.add(new SourceStamp(strings[buffer.getInt()], buffer.getLong(), buffer.getLong()));
+            }
+
+            int beanCount = buffer.getInt();
+            int beanRecordsOffset = buffer.position();
+            int propertyRecordsOffset = beanRecordsOffset + beanCount * BEAN_RECORD_SIZE + Integer.BYTES;
+            int argumentRecordsOffset = propertyRecordsOffset
+                    + buffer.getInt(propertyRecordsOffset - Integer.BYTES) * PROPERTY_RECORD_SIZE + Integer.BYTES;
+            Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+            for (int i = 0; i < beanCount; i++) {
+                int recordOffset = beanRecordsOffset + i * BEAN_RECORD_SIZE;
+                BeanDefinition beanDefinition =
+                        new BeanDefinition(strings[buffer.getInt(recordOffset)], strings[buffer.getInt(recordOffset + 4)]);
+                byte lazyInit = buffer.get(recordOffset + 8);
+                beanDefinition.setLazyInit(lazyInit == 0 ? null : lazyInit == 2);
+                beanDefinition.setValueDependencies(readProperties(buffer, strings, propertyRecordsOffset,
+                        buffer.getInt(recordOffset + 9), buffer.getInt(recordOffset + 13)));
+                beanDefinition.setRefDependencies(readProperties(buffer, strings, propertyRecordsOffset,
+                        buffer.getInt(recordOffset + 17), buffer.getInt(recordOffset + 21)));
+                int scope = buffer.getInt(recordOffset + 25);
+                beanDefinition.setScope(scope < 0 ? null : strings[scope]);
+                beanDefinition.setScopeAttributes(readProperties(buffer, strings, propertyRecordsOffset,
+                        buffer.getInt(recordOffset + 29), buffer.getInt(recordOffset + 33)));
+                beanDefinition.setConstructorArguments(readConstructorArguments(buffer, strings, argumentRecordsOffset,
+                        buffer.getInt(recordOffset + 37), buffer.getInt(recordOffset + 41)));
+                beanDefinitions.put(beanDefinition.getId(), beanDefinition);
+            }
+            return new BeanDefinitionSnapshot(sources, beanDefinitions);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    void write(Path snapshotFile) throws IOException {
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        List<int[]> properties = new ArrayList<>();
+        List<int[]> beanRecords = new ArrayList<>();
+        List<int[]> arguments = new ArrayList<>();
+        for (SourceStamp source : sources) {
+            intern(stringIndexes, source.getPath());
+        }
+        for (BeanDefinition beanDefinition : beanDefinitions.values()) {
+            int valueStart = properties.size();
+            addProperties(stringIndexes, properties, beanDefinition.getValueDependencies());
+            int refStart = properties.size();
+            addProperties(stringIndexes, properties, beanDefinition.getRefDependencies());
+            int attributeStart = properties.size();
+            addProperties(stringIndexes, properties, beanDefinition.getScopeAttributes());
+            int argumentStart = arguments.size();
+            for (ConstructorArgument argument : beanDefinition.getConstructorArguments()) {
+                arguments.add(new int[]{argument.getIndex() == null ? -1 : argument.getIndex(),
+                        argument.getValue() == null ? -1 : intern(stringIndexes, argument.getValue()),
+                        argument.getRef() == null ? -1 : intern(stringIndexes, argument.getRef())});
+            }
+            Boolean lazyInit = beanDefinition.getLazyInit();
+            String scope = beanDefinition.getScope();
+            beanRecords.add(new int[]{intern(stringIndexes, beanDefinition.getId()),
+                    intern(stringIndexes, beanDefinition.getClassName()),
+                    lazyInit == null ? 0 : lazyInit ? 2 : 1,
+                    valueStart, refStart - valueStart, refStart, attributeStart - refStart,
+                    scope == null ? -1 : intern(stringIndexes, scope),
+                    attributeStart, properties.size() - attributeStart,
+                    argumentStart, arguments.size() - argumentStart});
+        }
+
+        List<byte[]> encodedStrings = stringIndexes.keySet().stream()
+                .map(string -> string.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int size = HEADER_SIZE + Integer.BYTES * 5
+                + encodedStrings.stream().mapToInt(bytes -> Integer.BYTES + bytes.length).sum()
+                + sources.size() * SOURCE_RECORD_SIZE
+                + beanRecords.size() * BEAN_RECORD_SIZE
+                + properties.size() * PROPERTY_RECORD_SIZE
+                + arguments.size() * ARGUMENT_RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(0);
+
+        buffer.putInt(encodedStrings.size());
+        for (byte[] bytes : encodedStrings) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        buffer.putInt(sources.size());
+        for (SourceStamp source : sources) {
+            buffer.putInt(stringIndexes.get(source.getPath())).putLong(source.getLastModified()).putLong(source.getChecksum());
+        }
+        buffer.putInt(beanRecords.size());
+        for (int[] beanRecord : beanRecords) {
+            buffer.putInt(beanRecord[0]).putInt(beanRecord[1]).put((byte) beanRecord[2])
+                    .putInt(beanRecord[3]).putInt(beanRecord[4]).putInt(beanRecord[5]).putInt(beanRecord[6])
+                    .putInt(beanRecord[7]).putInt(beanRecord[8]).putInt(beanRecord[9])
+                    .putInt(beanRecord[10]).putInt(beanRecord[11]);
+        }
+        buffer.putInt(properties.size());
+        for (int[] property : properties) {
+            buffer.putInt(property[0]).putInt(property[1]);
+        }
+        buffer.putInt(arguments.size());
+        for (int[] argument : arguments) {
+            buffer.putInt(argument[0]).putInt(argument[1]).putInt(argument[2]);
+        }
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.array(), HEADER_SIZE, size - HEADER_SIZE);
+        buffer.putLong(Integer.BYTES * 2, crc32.getValue());
+
+        Path temporaryFile = Files.createTempFile(snapshotFile.toAbsolutePath().getParent(), "snapshot", ".tmp");
+        try {
+            Files.write(temporaryFile, buffer.array());
+            try {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static Map<String, String> readProperties(ByteBuffer buffer, String[] strings, int propertyRecordsOffset,
+                                                      int start, int count) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = start; i < start + count; i++) {
+            int recordOffset = propertyRecordsOffset + i * PROPERTY_RECORD_SIZE;
+            properties.put(strings[buffer.getInt(recordOffset)], strings[buffer.getInt(recordOffset + 4)]);
+        }
+        return properties;
+    }
+
+    private static List<ConstructorArgument> readConstructorArguments(ByteBuffer buffer, String[] strings,
+                                                                      int argumentRecordsOffset, int start, int count) {
+        List<ConstructorArgument> arguments = new ArrayList<>();
+        for (int i = start; i < start + count; i++) {
+            int recordOffset = argumentRecordsOffset + i * ARGUMENT_RECORD_SIZE;
+            int index = buffer.getInt(recordOffset);
+            int value = buffer.getInt(recordOffset + 4);
+            int ref = buffer.getInt(recordOffset + 8);
+            arguments.add(new ConstructorArgument(index < 0 ? null : index,
+                    value < 0 ? null : strings[value], ref < 0 ? null : strings[ref]));
+        }
+        return arguments;
+    }
+
+    private static void addProperties(Map<String, Integer> stringIndexes, List<int[]> properties,
+                                      Map<String, String> dependencies) {
+        for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+            properties.add(new int[]{intern(stringIndexes, dependency.getKey()), intern(stringIndexes, dependency.getValue())});
+        }
+    }
+
+    private static int intern(Map<String, Integer> stringIndexes, String value) {
+        return stringIndexes.computeIfAbsent(value, key -> stringIndexes.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.ioc.reader.snapshot;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.reader.BeanDefinitionReader;
+import com.study.ioc.reader.ContextResource;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class SnapshotBeanDefinitionReader implements BeanDefinitionReader {
+    private final Path snapshotFile;
+    private final String[] paths;
+
+    public SnapshotBeanDefinitionReader(Path snapshotFile, String... paths) {
+        this.snapshotFile = snapshotFile;
+        this.paths = paths;
+    }
+
+    @Override
+    public Map<String, BeanDefinition> getBeanDefinition() {
+        BeanDefinitionSnapshot snapshot = readSnapshot();
+        if (snapshot != null && isUpToDate(snapshot.getSources())) {
+            return snapshot.getBeanDefinitions();
+        }
+
+        List<SourceStamp> sources = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            sources.add(stamp(path, locate(path)));
+        }
+        Map<String, BeanDefinition> beanDefinitions = new XmlBeanDefinitionReader(paths).getBeanDefinition();
+        try {
+            new BeanDefinitionSnapshot(sources, beanDefinitions).write(snapshotFile);
+        } catch (IOException exception) {
+            // the snapshot is only a cache, the context can still start from the parsed definitions
+        }
+        return beanDefinitions;
+    }
+
+    private BeanDefinitionSnapshot readSnapshot() {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try {
+            return BeanDefinitionSnapshot.read(snapshotFile);
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private boolean isUpToDate(List<SourceStamp> sources) {
+        if (sources.size() != paths.length) {
+            return false;
+        }
+        for (int i = 0; i < paths.length; i++) {
+            SourceStamp source = sources.get(i);
+            if (!source.getPath().equals(paths[i])) {
+                return false;
+            }
+            URL resource = ContextResource.locate(paths[i]);
+            if (resource == null) {
+                return false;
+            }
+            // A changed mtime rejects the snapshot cheaply, but an equal one proves nothing: coarse timestamps,
+            // cp -p and checkouts keep it across content changes, so the checksum always has to match.
+            if (source.getLastModified() != getLastModified(resource)
+                    || source.getChecksum() != stamp(paths[i], resource).getChecksum()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static URL locate(String path) {
+        URL resource = ContextResource.locate(path);
+        if (resource == null) {
+            throw new ParseContextException("Context parse failed for " + path);
+        }
+        return resource;
+    }
+
+    private static SourceStamp stamp(String path, URL resource) {
+        CRC32 crc32 = new CRC32();
+        try (InputStream inputStream = resource.openStream()) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                crc32.update(buffer, 0, length);
+            }
+        } catch (IOException exception) {
+            throw new ParseContextException("Context parse failed for " + path);
+        }
+        return new SourceStamp(path, getLastModified(resource), crc32.getValue());
+    }
+
+    private static long getLastModified(URL resource) {
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                return Files.getLastModifiedTime(Path.of(resource.toURI())).toMillis();
+            }
+            URLConnection connection = resource.openConnection();
+            connection.setUseCaches(false);
+            try (InputStream ignored = connection.getInputStream()) {
+                return connection.getLastModified();
+            }
+        } catch (IOException | URISyntaxException exception) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.ioc.reader.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+class SourceStamp {
+    private final String path;
+    private final long lastModified;
+    private final long checksum;
+}
@@ -0,0 +1,156 @@
+package com.study.ioc.reader.stax;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.reader.BeanDefinitionReader;
+import com.study.ioc.reader.ConstructorArguments;
+import com.study.ioc.reader.ContextResource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class StaxBeanDefinitionReader implements BeanDefinitionReader {
+    private static final Set<String> BEAN_ATTRIBUTES = Set.of("id", "class", "lazy-init", "scope");
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final String[] paths;
+
+    public StaxBeanDefinitionReader(String... paths) {
+        this.paths = paths;
+    }
+
+    @Override
+    public Map<String, BeanDefinition> getBeanDefinition() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        Map<String, String> beanDefinitionPaths = new HashMap<>();
+        // Same rules as XmlBeanDefinitionReader: a path listed twice is read once, an id in two different
+        // files is an error and a later definition in the same file replaces an earlier one
+        for (String path : getDistinctPaths()) {
+            readBeanDefinitions(path, beanDefinition -> {
+                String previousPath = beanDefinitionPaths.putIfAbsent(beanDefinition.getId(), path);
+                if (previousPath != null && !previousPath.equals(path)) {
+                    throw new ParseContextException("Bean " + beanDefinition.getId() + " is defined in both "
+                            + previousPath + " and " + path);
+                }
+                beanDefinitionMap.put(beanDefinition.getId(), beanDefinition);
+            });
+        }
+        return beanDefinitionMap;
+    }
+
+    @Override
+    public void readBeanDefinitions(Consumer<BeanDefinition> consumer) {
+        for (String path : getDistinctPaths()) {
+            readBeanDefinitions(path, consumer);
+        }
+    }
+
+    void readBeanDefinitions(InputStream inputStream, Consumer<BeanDefinition> consumer) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            BeanDefinition beanDefinition = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String elementName = reader.getLocalName();
+                    if (elementName.equalsIgnoreCase("bean")) {
+                        beanDefinition = readBean(reader);
+                    } else if (elementName.equalsIgnoreCase("property")) {
+                        readProperty(reader, beanDefinition);
+                    } else if (elementName.equalsIgnoreCase("constructor-arg")) {
+                        readConstructorArgument(reader, beanDefinition);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equalsIgnoreCase("bean")) {
+                    consumer.accept(beanDefinition);
+                    beanDefinition = null;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void readBeanDefinitions(String path, Consumer<BeanDefinition> consumer) {
+        URL resource = ContextResource.locate(path);
+        if (resource == null) {
+            throw new ParseContextException("Context parse failed for " + path);
+        }
+        try (InputStream inputStream = new BufferedInputStream(resource.openStream())) {
+            readBeanDefinitions(inputStream, consumer);
+        } catch (IOException | XMLStreamException e) {
+            throw new ParseContextException("Context parse failed for " + path, e);
+        }
+    }
+
+    private String[] getDistinctPaths() {
+        return Arrays.stream(paths).distinct().toArray(String[]::new);
+    }
+
+    private BeanDefinition readBean(XMLStreamReader reader) {
+        String id = reader.getAttributeValue(null, "id");
+        if (id == null) {
+            throw new ParseContextException("No specified id for bean");
+        }
+        String clazzName = reader.getAttributeValue(null, "class");
+        if (clazzName == null) {
+            throw new ParseContextException("No specified class for bean");
+        }
+        BeanDefinition beanDefinition = new BeanDefinition(id, clazzName);
+        String lazyInit = reader.getAttributeValue(null, "lazy-init");
+        if (lazyInit != null) {
+            beanDefinition.setLazyInit(Boolean.parseBoolean(lazyInit));
+        }
+        beanDefinition.setScope(reader.getAttributeValue(null, "scope"));
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attributeName = reader.getAttributeLocalName(i);
+            if (!BEAN_ATTRIBUTES.contains(attributeName)) {
+                beanDefinition.getScopeAttributes().put(attributeName, reader.getAttributeValue(i));
+            }
+        }
+        return beanDefinition;
+    }
+
+    private void readProperty(XMLStreamReader reader, BeanDefinition beanDefinition) {
+        if (beanDefinition == null) {
+            throw new ParseContextException("No specified bean for property");
+        }
+        String propertyName = reader.getAttributeValue(null, "name");
+        if (propertyName == null) {
+            throw new ParseContextException("No specified name for property");
+        }
+        String propertyValue = reader.getAttributeValue(null, "value");
+        String propertyRef = reader.getAttributeValue(null, "ref");
+        if (propertyValue != null) {
+            beanDefinition.getValueDependencies().put(propertyName, propertyValue);
+        }
+        if (propertyRef != null) {
+            beanDefinition.getRefDependencies().put(propertyName, propertyRef);
+        }
+    }
+
+    private void readConstructorArgument(XMLStreamReader reader, BeanDefinition beanDefinition) {
+        if (beanDefinition == null) {
+            throw new ParseContextException("No specified bean for constructor argument");
+        }
+        beanDefinition.getConstructorArguments().add(ConstructorArguments.create(reader.getAttributeValue(null, "index"),
+                reader.getAttributeValue(null, "value"), reader.getAttributeValue(null, "ref")));
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+}
@@ -0,0 +1,193 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Idle beans are kept most recently released first, so eviction takes the
+// longest idle ones from the tail until the pool is back at its minimum size.
+// The first borrow fills the pool up to its minimum size.
+class BeanPool {
+    private final String beanId;
+    private final Supplier<Object> beanFactory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long borrowTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<IdleBean> idleBeans = new ArrayDeque<>();
+    private final Set<Object> borrowedBeans = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int size;
+
+    BeanPool(String beanId, Supplier<Object> beanFactory, int minSize, int maxSize, Duration idleTimeout,
+             Duration borrowTimeout) {
+        this.beanId = beanId;
+        this.beanFactory = beanFactory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+    }
+
+    Object borrow() {
+        fillToMinSize();
+        lock.lock();
+        try {
+            evictIdleBeans(System.nanoTime());
+            long remainingNanos = borrowTimeoutNanos;
+            while (true) {
+                IdleBean idleBean = idleBeans.pollFirst();
+                if (idleBean != null) {
+                    borrowedBeans.add(idleBean.bean);
+                    return idleBean.bean;
+                }
+                if (size < maxSize) {
+                    size++;
+                    break;
+                }
+                if (remainingNanos <= 0) {
+                    throw new BeanInstantiationException("Can`t borrow bean " + beanId + ", all " + maxSize
+                            + " pooled instances are in use");
+                }
+                try {
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new BeanInstantiationException("Interrupted while waiting for pooled bean " + beanId, exception);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        Object bean = createBean();
+        lock.lock();
+        try {
+            borrowedBeans.add(bean);
+        } finally {
+            lock.unlock();
+        }
+        return bean;
+    }
+
+    void release(Object bean) {
+        lock.lock();
+        try {
+            if (!borrowedBeans.remove(bean)) {
+                throw new IllegalArgumentException("Bean was not borrowed from pool " + beanId);
+            }
+            long now = System.nanoTime();
+            idleBeans.addFirst(new IdleBean(bean, now));
+            evictIdleBeans(now);
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getSize() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getIdleSize() {
+        lock.lock();
+        try {
+            return idleBeans.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void evictIdleBeans() {
+        lock.lock();
+        try {
+            evictIdleBeans(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drains the borrowed instances, for a pool that is dropped while they are still in use
+    Set<Object> retire() {
+        lock.lock();
+        try {
+            Set<Object> retiredBeans = Collections.newSetFromMap(new IdentityHashMap<>());
+            retiredBeans.addAll(borrowedBeans);
+            borrowedBeans.clear();
+            idleBeans.clear();
+            size = 0;
+            return retiredBeans;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fillToMinSize() {
+        while (true) {
+            lock.lock();
+            try {
+                if (size >= minSize) {
+                    return;
+                }
+                size++;
+            } finally {
+                lock.unlock();
+            }
+            Object bean = createBean();
+            lock.lock();
+            try {
+                idleBeans.addLast(new IdleBean(bean, System.nanoTime()));
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // The slot for the bean is already counted in size and is given back if creation fails
+    private Object createBean() {
+        try {
+            return beanFactory.get();
+        } catch (RuntimeException | Error exception) {
+            lock.lock();
+            try {
+                size--;
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw exception;
+        }
+    }
+
+    private void evictIdleBeans(long now) {
+        while (size > minSize && !idleBeans.isEmpty() && now - idleBeans.peekLast().releasedAt >= idleTimeoutNanos) {
+            idleBeans.pollLast();
+            size--;
+        }
+    }
+
+    private static class IdleBean {
+        private final Object bean;
+        private final long releasedAt;
+
+        private IdleBean(Object bean, long releasedAt) {
+            this.bean = bean;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class PooledScope implements Scope {
+    public static final String NAME = "pooled";
+    public static final String MIN_SIZE_ATTRIBUTE = "pool-min-size";
+    public static final String MAX_SIZE_ATTRIBUTE = "pool-max-size";
+    public static final String IDLE_TIMEOUT_ATTRIBUTE = "pool-idle-timeout";
+    public static final String BORROW_TIMEOUT_ATTRIBUTE = "pool-borrow-timeout";
+
+    private static final int DEFAULT_MAX_SIZE = 8;
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000;
+    private static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 30_000;
+
+    // A pool belongs to one definition object. Only remove, called by a refresh, drops it, so a lookup
+    // racing the refresh with the other definition can't swap pools back and forth.
+    private final Map<String, DefinitionPool> pools = new ConcurrentHashMap<>();
+    // Definitions whose pool was removed, held weakly, so a late lookup with one never installs it again
+    private final Map<String, List<WeakReference<BeanDefinition>>> removedDefinitions = new ConcurrentHashMap<>();
+    // Beans still borrowed from dropped pools; releasing them just forgets them
+    private final Set<Object> retiredBeans = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        BeanPool pool = getPool(beanDefinition, beanFactory);
+        if (pool == null) {
+            // The definition is on the other side of a refresh from the pool: hand out an unpooled
+            // instance, which release forgets like a bean of a dropped pool
+            Object bean = beanFactory.get();
+            retiredBeans.add(bean);
+            return bean;
+        }
+        return pool.borrow();
+    }
+
+    @Override
+    public void release(BeanDefinition beanDefinition, Object bean) {
+        if (retiredBeans.remove(bean)) {
+            return;
+        }
+        DefinitionPool definitionPool = pools.get(beanDefinition.getId());
+        if (definitionPool == null) {
+            throw new IllegalArgumentException("No pool for bean " + beanDefinition.getId());
+        }
+        definitionPool.pool.release(bean);
+    }
+
+    @Override
+    public void remove(BeanDefinition beanDefinition) {
+        // Marked and dropped under the map's lock for the id, so no lookup installs the pool again in between
+        pools.compute(beanDefinition.getId(), (beanId, definitionPool) -> {
+            List<WeakReference<BeanDefinition>> removed = removedDefinitions.computeIfAbsent(beanId,
+                    id -> new ArrayList<>());
+            synchronized (removed) {
+                removed.removeIf(reference -> reference.get() == null);
+                removed.add(new WeakReference<>(beanDefinition));
+            }
+            if (definitionPool != null && definitionPool.beanDefinition == beanDefinition) {
+                retiredBeans.addAll(definitionPool.pool.retire());
+                return null;
+            }
+            return definitionPool;
+        });
+    }
+
+    // Idle beans are otherwise only evicted when their pool is borrowed from or released to,
+    // so an application with pools that go quiet calls this periodically to trim them
+    public void evictIdleBeans() {
+        for (DefinitionPool definitionPool : pools.values()) {
+            definitionPool.pool.evictIdleBeans();
+        }
+    }
+
+    // Null when the pool for the id belongs to another definition or the definition was removed
+    BeanPool getPool(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        DefinitionPool definitionPool = pools.get(beanDefinition.getId());
+        if (definitionPool == null) {
+            definitionPool = pools.compute(beanDefinition.getId(), (beanId, currentPool) ->
+                    currentPool != null || isRemoved(beanDefinition)
+                            ? currentPool : new DefinitionPool(beanDefinition, createPool(beanDefinition, beanFactory)));
+        }
+        return definitionPool != null && definitionPool.beanDefinition == beanDefinition ? definitionPool.pool : null;
+    }
+
+    private boolean isRemoved(BeanDefinition beanDefinition) {
+        List<WeakReference<BeanDefinition>> removed = removedDefinitions.get(beanDefinition.getId());
+        if (removed == null) {
+            return false;
+        }
+        synchronized (removed) {
+            return removed.stream().anyMatch(reference -> reference.get() == beanDefinition);
+        }
+    }
+
+    private static BeanPool createPool(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        String beanId = beanDefinition.getId();
+        Map<String, String> attributes = beanDefinition.getScopeAttributes();
+        int minSize = getAttribute(beanDefinition, MIN_SIZE_ATTRIBUTE, 0);
+        int maxSize = getAttribute(beanDefinition, MAX_SIZE_ATTRIBUTE, DEFAULT_MAX_SIZE);
+        long idleTimeout = attributes.containsKey(IDLE_TIMEOUT_ATTRIBUTE)
+                ? getAttribute(beanDefinition, IDLE_TIMEOUT_ATTRIBUTE, 0) : DEFAULT_IDLE_TIMEOUT_MILLIS;
+        long borrowTimeout = attributes.containsKey(BORROW_TIMEOUT_ATTRIBUTE)
+                ? getAttribute(beanDefinition, BORROW_TIMEOUT_ATTRIBUTE, 0) : DEFAULT_BORROW_TIMEOUT_MILLIS;
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new BeanInstantiationException("Invalid pool size of bean " + beanId);
+        }
+        return new BeanPool(beanId, beanFactory, minSize, maxSize, Duration.ofMillis(idleTimeout),
+                Duration.ofMillis(borrowTimeout));
+    }
+
+    private static int getAttribute(BeanDefinition beanDefinition, String name, int defaultValue) {
+        String value = beanDefinition.getScopeAttributes().get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException exception) {
+            throw new BeanInstantiationException("Invalid " + name + " of bean " + beanDefinition.getId(), exception);
+        }
+    }
+
+    private static class DefinitionPool {
+        private final BeanDefinition beanDefinition;
+        private final BeanPool pool;
+
+        private DefinitionPool(BeanDefinition beanDefinition, BeanPool pool) {
+            this.beanDefinition = beanDefinition;
+            this.pool = pool;
+        }
+    }
+}
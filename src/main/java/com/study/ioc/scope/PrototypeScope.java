@@ -0,0 +1,14 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.function.Supplier;
+
+public class PrototypeScope implements Scope {
+    public static final String NAME = "prototype";
+
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        return beanFactory.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.study.ioc.scope;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Carrier for request scoped beans. A thread only references the carrier
+// while run or call is executing, so request beans never outlive the request
+// on pooled or virtual threads. The same carrier may be bound on several
+// threads to hand request state to sub tasks.
+public final class RequestContext {
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Object> beans = new ConcurrentHashMap<>();
+
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    public void run(Runnable task) {
+        RequestContext previous = bind();
+        try {
+            task.run();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public <T> T call(Callable<T> task) throws Exception {
+        RequestContext previous = bind();
+        try {
+            return task.call();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    Object getBean(String beanId, Supplier<Object> beanFactory) {
+        Object bean = beans.get(beanId);
+        if (bean == null) {
+            Object createdBean = beanFactory.get();
+            bean = beans.putIfAbsent(beanId, createdBean);
+            if (bean == null) {
+                bean = createdBean;
+            }
+        }
+        return bean;
+    }
+
+    void removeBean(String beanId, Object bean) {
+        beans.remove(beanId, bean);
+    }
+
+    private RequestContext bind() {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    private static void unbind(RequestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
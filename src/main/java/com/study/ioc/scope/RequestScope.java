@@ -0,0 +1,28 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.BeanInstantiationException;
+
+import java.util.function.Supplier;
+
+public class RequestScope implements Scope {
+    public static final String NAME = "request";
+
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        return getRequestContext(beanDefinition).getBean(beanDefinition.getId(), beanFactory);
+    }
+
+    @Override
+    public void release(BeanDefinition beanDefinition, Object bean) {
+        getRequestContext(beanDefinition).removeBean(beanDefinition.getId(), bean);
+    }
+
+    private static RequestContext getRequestContext(BeanDefinition beanDefinition) {
+        RequestContext requestContext = RequestContext.current();
+        if (requestContext == null) {
+            throw new BeanInstantiationException("No active request for bean " + beanDefinition.getId());
+        }
+        return requestContext;
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.function.Supplier;
+
+public interface Scope {
+    String SINGLETON = "singleton";
+
+    Object get(BeanDefinition beanDefinition, Supplier<Object> beanFactory);
+
+    default void release(BeanDefinition beanDefinition, Object bean) {
+    }
+
+    // Called once a definition is replaced or removed by a refresh, to drop what the scope keeps for it
+    default void remove(BeanDefinition beanDefinition) {
+    }
+
+    // Called once the context is closed, to drop every bean the scope still keeps
+    default void close() {
+    }
+}
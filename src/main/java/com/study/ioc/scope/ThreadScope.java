@@ -0,0 +1,62 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// A thread keeps its beans until it releases them, calls clear, or the context is closed. Threads of
+// a pool outlive their tasks, so a task should release its beans or call clear before it ends.
+public class ThreadScope implements Scope {
+    public static final String NAME = "thread";
+
+    private final ThreadLocal<Map<String, Object>> threadBeans = ThreadLocal.withInitial(this::createThreadBeans);
+    // The beans of every thread, for close; an entry goes away with its thread
+    private final Map<Thread, Map<String, Object>> allThreadBeans = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> beanFactory) {
+        Map<String, Object> beans = threadBeans.get();
+        Object bean = beans.get(beanDefinition.getId());
+        if (bean == null) {
+            bean = beanFactory.get();
+            beans.put(beanDefinition.getId(), bean);
+        }
+        return bean;
+    }
+
+    @Override
+    public void release(BeanDefinition beanDefinition, Object bean) {
+        Map<String, Object> beans = threadBeans.get();
+        beans.remove(beanDefinition.getId(), bean);
+        if (beans.isEmpty()) {
+            clear();
+        }
+    }
+
+    // Drops all beans of the calling thread
+    public void clear() {
+        threadBeans.remove();
+        allThreadBeans.remove(Thread.currentThread());
+    }
+
+    @Override
+    public void close() {
+        synchronized (allThreadBeans) {
+            for (Map<String, Object> beans : allThreadBeans.values()) {
+                beans.clear();
+            }
+            allThreadBeans.clear();
+        }
+    }
+
+    private Map<String, Object> createThreadBeans() {
+        // Concurrent, as close clears it from another thread
+        Map<String, Object> beans = new ConcurrentHashMap<>();
+        allThreadBeans.put(Thread.currentThread(), beans);
+        return beans;
+    }
+}
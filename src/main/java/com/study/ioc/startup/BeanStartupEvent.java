@@ -0,0 +1,21 @@
+package com.study.ioc.startup;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.study.ioc.BeanStartup")
+@Label("Bean Startup Step")
+@Category({"IoC", "Startup"})
+class BeanStartupEvent extends jdk.jfr.Event {
+    @Label("Bean Id")
+    String beanId;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,15 @@
+package com.study.ioc.startup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class BeanTiming {
+    private final String beanId;
+    private final long durationNanos;
+    private final long allocatedBytes;
+    private final Map<StartupPhase, Long> phaseDurations;
+}
@@ -0,0 +1,11 @@
+package com.study.ioc.startup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PhaseTiming {
+    private final StartupPhase phase;
+    private final long durationNanos;
+}
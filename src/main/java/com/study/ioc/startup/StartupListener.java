@@ -0,0 +1,13 @@
+package com.study.ioc.startup;
+
+// Bean steps may be reported concurrently when the context is built with an executor. Their figures
+// exclude beans tracked inside the step on the same thread, and allocations are -1 when the JVM
+// does not measure them.
+public interface StartupListener {
+
+    default void phaseFinished(StartupPhase phase, long durationNanos) {
+    }
+
+    default void beanStepFinished(String beanId, StartupPhase phase, long durationNanos, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.ioc.startup;
+
+public enum StartupPhase {
+    READ_BEAN_DEFINITIONS,
+    CREATE_BEAN_POST_PROCESSORS,
+    PROCESS_BEAN_DEFINITIONS,
+    VALIDATE_DEPENDENCIES,
+    CREATE_BEANS,
+    INJECT_VALUE_DEPENDENCIES,
+    INJECT_REF_DEPENDENCIES,
+    PROCESS_BEANS_BEFORE_INITIALIZATION,
+    INITIALIZE_BEANS,
+    PROCESS_BEANS_AFTER_INITIALIZATION
+}
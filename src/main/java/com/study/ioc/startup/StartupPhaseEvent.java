@@ -0,0 +1,13 @@
+package com.study.ioc.startup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.study.ioc.StartupPhase")
+@Label("Context Startup Phase")
+@Category({"IoC", "Startup"})
+class StartupPhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,43 @@
+package com.study.ioc.startup;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StartupRecorder implements StartupListener {
+    private final List<PhaseTiming> phases = new ArrayList<>();
+    private final Map<String, BeanRecord> beans = new HashMap<>();
+
+    @Override
+    public synchronized void phaseFinished(StartupPhase phase, long durationNanos) {
+        phases.add(new PhaseTiming(phase, durationNanos));
+    }
+
+    @Override
+    public synchronized void beanStepFinished(String beanId, StartupPhase phase, long durationNanos, long allocatedBytes) {
+        BeanRecord beanRecord = beans.computeIfAbsent(beanId, id -> new BeanRecord());
+        beanRecord.durationNanos += durationNanos;
+        if (allocatedBytes >= 0) {
+            beanRecord.allocatedBytes += allocatedBytes;
+        }
+        beanRecord.phaseDurations.merge(phase, durationNanos, Long::sum);
+    }
+
+    public synchronized StartupReport getReport() {
+        List<BeanTiming> beanTimings = new ArrayList<>();
+        for (Map.Entry<String, BeanRecord> entry : beans.entrySet()) {
+            BeanRecord beanRecord = entry.getValue();
+            beanTimings.add(new BeanTiming(entry.getKey(), beanRecord.durationNanos, beanRecord.allocatedBytes,
+                    new EnumMap<>(beanRecord.phaseDurations)));
+        }
+        return new StartupReport(new ArrayList<>(phases), beanTimings);
+    }
+
+    private static class BeanRecord {
+        private long durationNanos;
+        private long allocatedBytes;
+        private final Map<StartupPhase, Long> phaseDurations = new EnumMap<>(StartupPhase.class);
+    }
+}
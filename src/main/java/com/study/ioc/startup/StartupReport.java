@@ -0,0 +1,66 @@
+package com.study.ioc.startup;
+
+import com.study.ioc.json.JsonStrings;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class StartupReport {
+    private final List<PhaseTiming> phases;
+    private final List<BeanTiming> beans;
+
+    StartupReport(List<PhaseTiming> phases, List<BeanTiming> beans) {
+        beans.sort(Comparator.comparingLong(BeanTiming::getDurationNanos).reversed()
+                .thenComparing(BeanTiming::getBeanId));
+        this.phases = List.copyOf(phases);
+        this.beans = List.copyOf(beans);
+    }
+
+    public long getTotalNanos() {
+        return phases.stream().mapToLong(PhaseTiming::getDurationNanos).sum();
+    }
+
+    public Map<String, Long> getBeanDurations() {
+        Map<String, Long> beanDurations = new HashMap<>();
+        for (BeanTiming beanTiming : beans) {
+            beanDurations.put(beanTiming.getBeanId(), beanTiming.getDurationNanos());
+        }
+        return beanDurations;
+    }
+
+    public List<BeanTiming> getSlowestBeans(int limit) {
+        return beans.subList(0, Math.min(limit, beans.size()));
+    }
+
+    public String toJson(int beanLimit) {
+        StringBuilder json = new StringBuilder("{\"totalNanos\":").append(getTotalNanos()).append(",\"phases\":[");
+        for (int i = 0; i < phases.size(); i++) {
+            PhaseTiming phaseTiming = phases.get(i);
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"phase\":\"").append(phaseTiming.getPhase())
+                    .append("\",\"durationNanos\":").append(phaseTiming.getDurationNanos()).append('}');
+        }
+        json.append("],\"slowestBeans\":[");
+        List<BeanTiming> slowestBeans = getSlowestBeans(beanLimit);
+        for (int i = 0; i < slowestBeans.size(); i++) {
+            BeanTiming beanTiming = slowestBeans.get(i);
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"beanId\":");
+            JsonStrings.appendString(json, beanTiming.getBeanId());
+            json.append(",\"durationNanos\":").append(beanTiming.getDurationNanos())
+                    .append(",\"allocatedBytes\":").append(beanTiming.getAllocatedBytes())
+                    .append(",\"phases\":{");
+            boolean first = true;
+            for (Map.Entry<StartupPhase, Long> entry : beanTiming.getPhaseDurations().entrySet()) {
+                json.append(first ? "" : ",").append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+                first = false;
+            }
+            json.append("}}");
+        }
+        return json.append("]}").toString();
+    }
+}
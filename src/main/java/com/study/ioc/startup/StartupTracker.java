@@ -0,0 +1,130 @@
+package com.study.ioc.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Costs one event allocation per step while neither a listener nor JFR recording is interested.
+public class StartupTracker {
+    private static final StartupTracker DISABLED = new StartupTracker(List.of(), false);
+    private static final ThreadLocal<BeanStep> CURRENT_BEAN_STEP = new ThreadLocal<>();
+
+    private final List<StartupListener> listeners;
+    private final boolean enabled;
+
+    public StartupTracker(List<StartupListener> listeners) {
+        this(listeners, true);
+    }
+
+    private StartupTracker(List<StartupListener> listeners, boolean enabled) {
+        this.listeners = List.copyOf(listeners);
+        this.enabled = enabled;
+    }
+
+    // Runs the steps without events or listeners, for work done after the startup is over
+    public static StartupTracker disabled() {
+        return DISABLED;
+    }
+
+    public void trackPhase(StartupPhase phase, Runnable step) {
+        trackPhase(phase, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    public <T> T trackPhase(StartupPhase phase, Supplier<T> step) {
+        if (!enabled) {
+            return step.get();
+        }
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        if (listeners.isEmpty() && !event.isEnabled()) {
+            return step.get();
+        }
+        event.phase = phase.name();
+        event.begin();
+        long start = System.nanoTime();
+        T result = step.get();
+        long duration = System.nanoTime() - start;
+        event.commit();
+        for (StartupListener listener : listeners) {
+            listener.phaseFinished(phase, duration);
+        }
+        return result;
+    }
+
+    public void trackBean(StartupPhase phase, String beanId, Runnable step) {
+        trackBean(phase, beanId, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    // A bean created while another one is tracked on the same thread, like a constructor argument, is
+    // reported on its own: listeners and the event get the figures of the outer bean without it.
+    public <T> T trackBean(StartupPhase phase, String beanId, Supplier<T> step) {
+        if (!enabled) {
+            return step.get();
+        }
+        BeanStartupEvent event = new BeanStartupEvent();
+        if (listeners.isEmpty() && !event.isEnabled()) {
+            return step.get();
+        }
+        event.beanId = beanId;
+        event.phase = phase.name();
+        event.begin();
+        BeanStep beanStep = new BeanStep(CURRENT_BEAN_STEP.get());
+        CURRENT_BEAN_STEP.set(beanStep);
+        long allocatedBefore = AllocationCounter.getAllocatedBytes();
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = step.get();
+        } finally {
+            CURRENT_BEAN_STEP.set(beanStep.parent);
+        }
+        long totalDuration = System.nanoTime() - start;
+        long allocatedAfter = allocatedBefore < 0 ? -1 : AllocationCounter.getAllocatedBytes();
+        long totalAllocatedBytes = allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        if (beanStep.parent != null) {
+            beanStep.parent.nestedDurationNanos += totalDuration;
+            beanStep.parent.nestedAllocatedBytes += Math.max(totalAllocatedBytes, 0);
+        }
+        long duration = totalDuration - beanStep.nestedDurationNanos;
+        long allocatedBytes = totalAllocatedBytes < 0 ? -1 : totalAllocatedBytes - beanStep.nestedAllocatedBytes;
+        event.allocatedBytes = allocatedBytes;
+        event.commit();
+        for (StartupListener listener : listeners) {
+            listener.beanStepFinished(beanId, phase, duration, allocatedBytes);
+        }
+        return result;
+    }
+
+    private static class BeanStep {
+        private final BeanStep parent;
+        private long nestedDurationNanos;
+        private long nestedAllocatedBytes;
+
+        private BeanStep(BeanStep parent) {
+            this.parent = parent;
+        }
+    }
+
+    // Loaded on first tracked bean only, the management beans are not free to initialize. The measurement
+    // is a JVM-wide setting, so it is only read, never switched on: without it allocations are -1.
+    private static class AllocationCounter {
+        private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+        private static long getAllocatedBytes() {
+            return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        }
+
+        private static com.sun.management.ThreadMXBean getThreadMXBean() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()) {
+                return threadMXBean;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.entity;
+
+public class Colleague {
+    private Colleague peer;
+
+    public Colleague getPeer() {
+        return peer;
+    }
+
+    public void setPeer(Colleague peer) {
+        this.peer = peer;
+    }
+}
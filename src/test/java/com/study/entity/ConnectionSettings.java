@@ -0,0 +1,101 @@
+package com.study.entity;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionSettings {
+    private boolean secure;
+    private long maxMessageSize;
+    private Double retryFactor;
+    private TimeUnit timeUnit;
+    private Duration timeout;
+    private Path spoolDirectory;
+    private List<Integer> ports;
+    private Set<String> hosts;
+    private URI endpoint;
+    private String xMailer;
+
+    public boolean isSecure() {
+        return secure;
+    }
+
+    public void setSecure(boolean secure) {
+        this.secure = secure;
+    }
+
+    public long getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    public void setMaxMessageSize(long maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    public Double getRetryFactor() {
+        return retryFactor;
+    }
+
+    public void setRetryFactor(Double retryFactor) {
+        this.retryFactor = retryFactor;
+    }
+
+    public TimeUnit getTimeUnit() {
+        return timeUnit;
+    }
+
+    public void setTimeUnit(TimeUnit timeUnit) {
+        this.timeUnit = timeUnit;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Path getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(Path spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public List<Integer> getPorts() {
+        return ports;
+    }
+
+    public void setPorts(List<Integer> ports) {
+        this.ports = ports;
+    }
+
+    public Set<String> getHosts() {
+        return hosts;
+    }
+
+    public void setHosts(Set<String> hosts) {
+        this.hosts = hosts;
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(URI endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getXMailer() {
+        return xMailer;
+    }
+
+    public void setXMailer(String xMailer) {
+        this.xMailer = xMailer;
+    }
+}
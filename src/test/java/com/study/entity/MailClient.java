@@ -0,0 +1,31 @@
+package com.study.entity;
+
+public class MailClient {
+    private final IMailService mailService;
+    private final String host;
+    private final int port;
+
+    public MailClient(String host, int port) {
+        this.mailService = null;
+        this.host = host;
+        this.port = port;
+    }
+
+    public MailClient(IMailService mailService, String host) {
+        this.mailService = mailService;
+        this.host = host;
+        this.port = 0;
+    }
+
+    public IMailService getMailService() {
+        return mailService;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.entity;
+
+public class UserNotifier {
+    private final UserService userService;
+
+    public UserNotifier(UserService userService) {
+        this.userService = userService;
+    }
+
+    public UserService getUserService() {
+        return userService;
+    }
+}
@@ -0,0 +1,18 @@
+package com.study.entity.component;
+
+import com.study.ioc.annotation.Component;
+import com.study.ioc.annotation.Inject;
+
+@Component(scope = "prototype")
+public class AuditLog {
+    private SmtpTransport smtpTransport;
+
+    public SmtpTransport getSmtpTransport() {
+        return smtpTransport;
+    }
+
+    @Inject
+    public void setSmtpTransport(SmtpTransport smtpTransport) {
+        this.smtpTransport = smtpTransport;
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.entity.component;
+
+import com.study.ioc.annotation.Component;
+import com.study.ioc.annotation.Inject;
+import com.study.ioc.annotation.Value;
+
+import java.time.Duration;
+
+@Component(value = "notifier", lazyInit = true)
+public class MailNotifier {
+    private final SmtpTransport transport;
+    private final String sender;
+    private Duration retryDelay;
+
+    @Inject
+    public MailNotifier(@Inject("smtpTransport") SmtpTransport transport, @Value("noreply@study.com") String sender) {
+        this.transport = transport;
+        this.sender = sender;
+    }
+
+    public SmtpTransport getTransport() {
+        return transport;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    @Value("5s")
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.entity.component;
+
+import com.study.ioc.annotation.Component;
+import com.study.ioc.annotation.Value;
+
+@Component
+public class SmtpTransport {
+    private String host;
+    private int port;
+    private String tlsVersion;
+
+    public String getHost() {
+        return host;
+    }
+
+    @Value("smtp.host")
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Value("25")
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getTLSVersion() {
+        return tlsVersion;
+    }
+
+    @Value("TLSv1.3")
+    public void setTLSVersion(String tlsVersion) {
+        this.tlsVersion = tlsVersion;
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.ioc.accessor;
+
+import com.study.entity.DefaultUserService;
+import com.study.entity.IMailService;
+import com.study.entity.MailService;
+import com.study.ioc.exception.BeanInstantiationException;
+import org.junit.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class LambdaBeanAccessorFactoryTest {
+
+    private final LambdaBeanAccessorFactory beanAccessorFactory = new LambdaBeanAccessorFactory();
+
+    @Test
+    public void testGetConstructor() {
+        Supplier<Object> constructor = beanAccessorFactory.getConstructor(MailService.class);
+        assertTrue(constructor.getClass().getName().startsWith(LambdaBeanAccessorFactory.class.getName()));
+        assertEquals(MailService.class, constructor.get().getClass());
+        assertSame(beanAccessorFactory.getConstructor(MailService.class), beanAccessorFactory.getConstructor(MailService.class));
+    }
+
+    @Test
+    public void testGetSetter() throws NoSuchMethodException {
+        MailService mailService = new MailService();
+        beanAccessorFactory.getSetter(MailService.class.getMethod("setPort", int.class)).accept(mailService, 995);
+        beanAccessorFactory.getSetter(MailService.class.getMethod("setProtocol", String.class)).accept(mailService, "POP3");
+        assertEquals(995, mailService.getPort());
+        assertEquals("POP3", mailService.getProtocol());
+
+        DefaultUserService userService = new DefaultUserService();
+        beanAccessorFactory.getSetter(DefaultUserService.class.getMethod("setMailService", IMailService.class))
+                .accept(userService, mailService);
+        assertSame(mailService, userService.getMailService());
+    }
+
+    @Test
+    public void testGetConstructorFallsBackToReflection() {
+        Object bean = beanAccessorFactory.getConstructor(PackagePrivateBean.class).get();
+        assertEquals(PackagePrivateBean.class, bean.getClass());
+    }
+
+    @Test(expected = BeanInstantiationException.class)
+    public void testGetConstructorWithoutDefaultConstructor() {
+        beanAccessorFactory.getConstructor(Integer.class).get();
+    }
+
+    static class PackagePrivateBean {
+        public PackagePrivateBean() {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.ioc.aot;
+
+import com.study.entity.DefaultUserService;
+import com.study.entity.MailService;
+import com.study.ioc.context.ApplicationContext;
+import com.study.ioc.context.impl.GenericApplicationContext;
+import com.study.ioc.exception.NoUniqueBeanOfTypeException;
+import com.study.ioc.service.MessageService;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+@CompiledContext(value = "context.xml", className = "CompiledTestContext")
+public class CompiledContextITest {
+
+    private final ApplicationContext compiledContext = new CompiledTestContext();
+    private final ApplicationContext genericApplicationContext = new GenericApplicationContext("context.xml");
+
+    @Test
+    public void testGetBeanNames() {
+        assertEquals(genericApplicationContext.getBeanNames(), compiledContext.getBeanNames());
+    }
+
+    @Test
+    public void testGetBeanById() {
+        MailService mailService = compiledContext.getBean("mailServicePOP", MailService.class);
+        assertEquals(4467, mailService.getPort());
+        assertEquals("IMAP", mailService.getProtocol());
+
+        DefaultUserService userService = compiledContext.getBean("userService", DefaultUserService.class);
+        assertSame(mailService, userService.getMailService());
+    }
+
+    @Test
+    public void testBeanPostProcessorsApplied() {
+        MessageService messageService = compiledContext.getBean(MessageService.class);
+        assertEquals(6000, messageService.getPort());
+        assertEquals("IMAP", messageService.getProtocol());
+    }
+
+    @Test(expected = NoUniqueBeanOfTypeException.class)
+    public void testGetBeanByClazzNoUniqueBean() {
+        compiledContext.getBean(MailService.class);
+    }
+}
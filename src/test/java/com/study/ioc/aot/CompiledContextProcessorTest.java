@@ -0,0 +1,78 @@
+package com.study.ioc.aot;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledContextProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    @DisplayName("test Bean Defined In Two Files Is Reported")
+    public void testBeanDefinedInTwoFilesIsReported() throws IOException {
+        List<String> errors = compile("\"context.xml\", \"context-duplicate.xml\"");
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).contains("Bean mailServiceIMAP is defined in both context.xml and context-duplicate.xml"));
+    }
+
+    @Test
+    @DisplayName("test Parse Error Is Reported With Its Cause")
+    public void testParseErrorIsReportedWithItsCause() throws IOException {
+        Files.writeString(temporaryFolder.getRoot().toPath().resolve("context-broken.xml"),
+                "<beans><bean class=\"com.study.entity.MailService\"/></beans>");
+
+        List<String> errors = compile("\"context-broken.xml\"");
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).contains("Context parse failed for context-broken.xml: No specified id for bean"));
+    }
+
+    private List<String> compile(String paths) throws IOException {
+        Path outputDirectory = temporaryFolder.getRoot().toPath();
+        for (String resource : List.of("context.xml", "context-duplicate.xml")) {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+                Files.copy(inputStream, outputDirectory.resolve(resource));
+            }
+        }
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///test/Contexts.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "package test;\n@com.study.ioc.aot.CompiledContext(value = {" + paths
+                        + "}, className = \"TestContext\")\nclass Contexts {}\n";
+            }
+        };
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean compiled = compiler.getTask(null, null, diagnostics,
+                List.of("-proc:only", "-processor", CompiledContextProcessor.class.getName(),
+                        "-classpath", System.getProperty("java.class.path"), "-d", outputDirectory.toString()),
+                null, List.of(source)).call();
+
+        assertFalse(compiled);
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.ioc.aot;
+
+import com.study.entity.ConnectionSettings;
+import com.study.ioc.context.ApplicationContext;
+import com.study.ioc.context.impl.GenericApplicationContext;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+@CompiledContext(value = "context-settings.xml", className = "CompiledSettingsContext")
+public class CompiledSettingsContextITest {
+
+    @Test
+    public void testConvertedValuesMatchGenericContext() {
+        ConnectionSettings compiledSettings = new CompiledSettingsContext().getBean(ConnectionSettings.class);
+        ApplicationContext genericApplicationContext = new GenericApplicationContext("context-settings.xml");
+        ConnectionSettings settings = genericApplicationContext.getBean(ConnectionSettings.class);
+
+        assertEquals(settings.isSecure(), compiledSettings.isSecure());
+        assertEquals(settings.getMaxMessageSize(), compiledSettings.getMaxMessageSize());
+        assertEquals(settings.getRetryFactor(), compiledSettings.getRetryFactor());
+        assertEquals(settings.getTimeUnit(), compiledSettings.getTimeUnit());
+        assertEquals(settings.getTimeout(), compiledSettings.getTimeout());
+        assertEquals(settings.getSpoolDirectory(), compiledSettings.getSpoolDirectory());
+        assertEquals(settings.getPorts(), compiledSettings.getPorts());
+        assertEquals(settings.getHosts(), compiledSettings.getHosts());
+        assertEquals("study-ioc", settings.getXMailer());
+        assertEquals("study-ioc", compiledSettings.getXMailer());
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.ioc.context.impl;
+
+import com.study.entity.MailService;
+import com.study.ioc.entity.Bean;
+import com.study.ioc.service.MessageService;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class BeanLookupTableTest {
+
+    @Test
+    @DisplayName("test Get Beans With Colliding Hashes")
+    public void testGetBeansWithCollidingHashes() {
+        MailService firstService = new MailService();
+        MailService secondService = new MailService();
+        Map<String, Bean> beans = new HashMap<>();
+        beans.put("Aa", new Bean("Aa", firstService));
+        beans.put("BB", new Bean("BB", secondService));
+        BeanLookupTable lookupTable = new BeanLookupTable(beans);
+
+        assertSame(firstService, lookupTable.get("Aa"));
+        assertSame(secondService, lookupTable.get(new String("BB")));
+        assertNull(lookupTable.get("C#"));
+    }
+
+    @Test
+    @DisplayName("test Get Bean Of Exact Type")
+    public void testGetBeanOfExactType() {
+        Map<String, Bean> beans = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            beans.put("mailService" + i, new Bean("mailService" + i, new MailService()));
+        }
+        BeanLookupTable lookupTable = new BeanLookupTable(beans);
+
+        assertSame(beans.get("mailService42").getValue(), lookupTable.get("mailService42", MailService.class));
+        assertNull(lookupTable.get("mailService42", MessageService.class));
+        assertNull(lookupTable.get("mailService42", Object.class));
+        assertNull(lookupTable.get("mailService100", MailService.class));
+    }
+
+    @Test
+    @DisplayName("test Empty Table")
+    public void testEmptyTable() {
+        assertNull(new BeanLookupTable(Map.of()).get("mailService"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.ioc.context.impl;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class BeanTaskSchedulerTest {
+
+    @Test
+    public void testRunInDependencyOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+            dependencies.put("userService", Set.of("mailService", "userDao"));
+            dependencies.put("mailService", Set.of("mailClient"));
+            dependencies.put("userDao", Set.of());
+            dependencies.put("mailClient", Set.of("missing"));
+            List<String> completed = new CopyOnWriteArrayList<>();
+
+            new BeanTaskScheduler(executor).runInDependencyOrder(dependencies, completed::add);
+
+            assertEquals(4, completed.size());
+            assertTrue(completed.indexOf("mailClient") < completed.indexOf("mailService"));
+            assertTrue(completed.indexOf("mailService") < completed.indexOf("userService"));
+            assertTrue(completed.indexOf("userDao") < completed.indexOf("userService"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunInDependencyOrderWithCycle() {
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put("first", Set.of("second"));
+        dependencies.put("second", Set.of("first"));
+        List<String> completed = new CopyOnWriteArrayList<>();
+
+        new BeanTaskScheduler(null).runInDependencyOrder(dependencies, completed::add);
+
+        assertEquals(List.of("second", "first"), completed);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRunAllRethrowsTaskFailure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new BeanTaskScheduler(executor).runAll(List.of("bean"), beanId -> {
+                throw new IllegalStateException(beanId);
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
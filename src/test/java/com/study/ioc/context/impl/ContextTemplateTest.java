@@ -0,0 +1,80 @@
+package com.study.ioc.context.impl;
+
+import com.study.entity.DefaultUserService;
+import com.study.entity.MailService;
+import com.study.ioc.exception.BeanInstantiationException;
+import com.study.ioc.service.MessageService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public class ContextTemplateTest {
+    private ContextTemplate contextTemplate;
+
+    @Before
+    public void before() {
+        contextTemplate = new ContextTemplate("context.xml");
+    }
+
+    @Test
+    @DisplayName("test Fork Creates The Same Beans As The Template")
+    public void testForkCreatesTheSameBeansAsTheTemplate() {
+        GenericApplicationContext templateContext = contextTemplate.getTemplateContext();
+        GenericApplicationContext forkedContext = contextTemplate.fork();
+
+        assertEquals(new HashSet<>(templateContext.getBeanNames()), new HashSet<>(forkedContext.getBeanNames()));
+        MailService mailService = forkedContext.getBean("mailServicePOP", MailService.class);
+        assertNotSame(templateContext.getBean("mailServicePOP"), mailService);
+        assertEquals(4467, mailService.getPort());
+        assertSame(mailService, forkedContext.getBean("userService", DefaultUserService.class).getMailService());
+        MessageService messageService = forkedContext.getBean("messageService", MessageService.class);
+        assertEquals(6000, messageService.getPort());
+        assertEquals(templateContext.getModifiedBeanDefinitionIds(), forkedContext.getModifiedBeanDefinitionIds());
+        assertSame(templateContext.getDependencyGraph(), forkedContext.getDependencyGraph());
+    }
+
+    @Test
+    @DisplayName("test Forks Are Independent")
+    public void testForksAreIndependent() {
+        GenericApplicationContext firstContext = contextTemplate.fork();
+        GenericApplicationContext secondContext = contextTemplate.fork();
+
+        assertNotSame(firstContext.getBean("userService"), secondContext.getBean("userService"));
+        assertNotSame(firstContext.getBeanPostProcessorsMap().get("beanPostProcessor").getValue(),
+                secondContext.getBeanPostProcessorsMap().get("beanPostProcessor").getValue());
+        firstContext.removeBean("userService");
+        assertNull(firstContext.getBean("userService"));
+        assertEquals(DefaultUserService.class, secondContext.getBean("userService").getClass());
+    }
+
+    @Test
+    @DisplayName("test Fork Shares Requested Singletons")
+    public void testForkSharesRequestedSingletons() {
+        GenericApplicationContext templateContext = contextTemplate.getTemplateContext();
+        GenericApplicationContext forkedContext = contextTemplate.fork(Set.of("mailServicePOP"));
+
+        Object sharedMailService = templateContext.getBean("mailServicePOP");
+        assertSame(sharedMailService, forkedContext.getBean("mailServicePOP"));
+        DefaultUserService userService = forkedContext.getBean("userService", DefaultUserService.class);
+        assertNotSame(templateContext.getBean("userService"), userService);
+        assertSame(sharedMailService, userService.getMailService());
+        assertNotSame(templateContext.getBean("mailServiceIMAP"), forkedContext.getBean("mailServiceIMAP"));
+    }
+
+    @Test
+    @DisplayName("test Fork Rejects Unknown Shared Beans")
+    public void testForkRejectsUnknownSharedBeans() {
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> contextTemplate.fork(Set.of("missingService")));
+        assertEquals("Can`t share bean missingService, only singletons of the template can be shared", exception.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.ioc.context.impl;
+
+import com.study.entity.DefaultUserService;
+import com.study.entity.MailService;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ContextWatcherTest {
+    private static final String CONTEXT_XML = "<beans>\n" +
+            "    <bean id=\"mailServicePOP\" class=\"com.study.entity.MailService\">\n" +
+            "        <property name=\"protocol\" value=\"%s\"/>\n" +
+            "    </bean>\n" +
+            "    <bean id=\"userService\" class=\"com.study.entity.DefaultUserService\">\n" +
+            "        <property name=\"mailService\" ref=\"mailServicePOP\"/>\n" +
+            "    </bean>\n" +
+            "    <bean id=\"messageService\" class=\"com.study.ioc.service.MessageService\"/>\n" +
+            "</beans>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    @DisplayName("test Context Is Refreshed When File Changes")
+    public void testContextIsRefreshedWhenFileChanges() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, String.format(CONTEXT_XML, "POP3"));
+        XmlBeanDefinitionReader definitionReader = new XmlBeanDefinitionReader(contextFile.toString());
+        GenericApplicationContext context = new GenericApplicationContext(definitionReader);
+        Object messageService = context.getBean("messageService");
+
+        CompletableFuture<Set<String>> reloadedBeanIds = new CompletableFuture<>();
+        try (ContextWatcher contextWatcher = new ContextWatcher(context, definitionReader)) {
+            contextWatcher.setReloadListener(reloadedBeanIds::complete);
+            contextWatcher.setErrorHandler(reloadedBeanIds::completeExceptionally);
+            contextWatcher.start();
+
+            Files.writeString(contextFile, String.format(CONTEXT_XML, "IMAP"));
+
+            assertEquals(Set.of("mailServicePOP", "userService"), reloadedBeanIds.get(30, TimeUnit.SECONDS));
+        }
+        MailService mailService = context.getBean("mailServicePOP", MailService.class);
+        assertEquals("IMAP", mailService.getProtocol());
+        assertSame(mailService, context.getBean(DefaultUserService.class).getMailService());
+        assertSame(messageService, context.getBean("messageService"));
+    }
+}
@@ -1,20 +1,35 @@
 package com.study.ioc.context.impl;
 
+import com.study.entity.DefaultUserService;
 import com.study.entity.MailService;
+import com.study.ioc.context.ContextOptions;
 import com.study.ioc.entity.Bean;
 import com.study.ioc.processor.BeanFactoryPostProcessor;
 import com.study.ioc.processor.CustomBeanFactoryPostProcessor;
 import com.study.ioc.processor.CustomBeanPostProcessor;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import com.study.ioc.startup.BeanTiming;
+import com.study.ioc.startup.PhaseTiming;
+import com.study.ioc.startup.StartupPhase;
+import com.study.ioc.startup.StartupRecorder;
+import com.study.ioc.startup.StartupReport;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 public class GenericApplicationContextITest {
     private GenericApplicationContext genericApplicationContext;
@@ -78,6 +93,17 @@ public class GenericApplicationContextITest {
         assertEquals(CustomBeanPostProcessor.class, actualBean.getValue().getClass());
     }
 
+    @Test
+    @DisplayName("Bean Post Processors Are Published As A Snapshot")
+    public void testBeanPostProcessorsArePublishedAsASnapshot() {
+        Map<String, Bean> beanPostProcessors = new HashMap<>(genericApplicationContext.getBeanPostProcessorsMap());
+        genericApplicationContext.setBeanPostProcessorsMap(beanPostProcessors);
+        beanPostProcessors.clear();
+
+        assertEquals(1, genericApplicationContext.getBeanPostProcessorsMap().size());
+        assertThrows(UnsupportedOperationException.class, () -> genericApplicationContext.getBeanPostProcessorsMap().clear());
+    }
+
     @Test
     @DisplayName("get Bean Factory Post Processors")
     public void testGetBeanFactoryPostProcessors() {
@@ -88,4 +114,72 @@ public class GenericApplicationContextITest {
         assertEquals(1, beanFactoryPostProcessors.size());
         assertEquals(CustomBeanFactoryPostProcessor.class, beanFactoryPostProcessor.getClass());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("create Context on Executor")
+    public void testCreateContextOnExecutor() {
+        ForkJoinPool executor = new ForkJoinPool(4);
+        try {
+            ContextOptions contextOptions = ContextOptions.builder().executor(executor).build();
+            GenericApplicationContext parallelContext =
+                    new GenericApplicationContext(new XmlBeanDefinitionReader("context.xml"), contextOptions);
+
+            assertEquals(genericApplicationContext.getBeanNames(), parallelContext.getBeanNames());
+            DefaultUserService userService = parallelContext.getBean("userService", DefaultUserService.class);
+            assertSame(parallelContext.getBean("mailServicePOP"), userService.getMailService());
+            assertEquals(4467, ((MailService) userService.getMailService()).getPort());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Startup Report")
+    public void testStartupReport() {
+        StartupRecorder startupRecorder = new StartupRecorder();
+        new GenericApplicationContext(new XmlBeanDefinitionReader("context.xml"),
+                ContextOptions.builder().startupListener(startupRecorder).build());
+
+        StartupReport startupReport = startupRecorder.getReport();
+        assertEquals(Arrays.asList(StartupPhase.values()),
+                startupReport.getPhases().stream().map(PhaseTiming::getPhase).toList());
+        assertEquals(7, startupReport.getBeans().size());
+        assertEquals(3, startupReport.getSlowestBeans(3).size());
+        BeanTiming userService = startupReport.getBeans().stream()
+                .filter(beanTiming -> beanTiming.getBeanId().equals("userService"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(userService.getPhaseDurations().containsKey(StartupPhase.CREATE_BEANS));
+        assertTrue(userService.getPhaseDurations().containsKey(StartupPhase.INJECT_REF_DEPENDENCIES));
+        assertTrue(startupReport.toJson(3).startsWith("{\"totalNanos\":" + startupReport.getTotalNanos()));
+    }
+
+    @Test
+    @DisplayName("Startup Report Ignores Beans Created After Startup")
+    public void testStartupReportIgnoresBeansCreatedAfterStartup() {
+        StartupRecorder startupRecorder = new StartupRecorder();
+        GenericApplicationContext context = new GenericApplicationContext(new XmlBeanDefinitionReader("context.xml"),
+                ContextOptions.builder().startupListener(startupRecorder).defaultLazyInit(true).build());
+        int trackedBeans = startupRecorder.getReport().getBeans().size();
+
+        assertNotNull(context.getBean("userService"));
+        assertEquals(trackedBeans, startupRecorder.getReport().getBeans().size());
+        assertTrue(startupRecorder.getReport().getBeans().stream()
+                .noneMatch(beanTiming -> beanTiming.getBeanId().equals("userService")));
+    }
+
+    @Test
+    @DisplayName("Dependency Graph With Startup Costs")
+    public void testDependencyGraphWithStartupCosts() {
+        StartupRecorder startupRecorder = new StartupRecorder();
+        GenericApplicationContext context = new GenericApplicationContext(new XmlBeanDefinitionReader("context.xml"),
+                ContextOptions.builder().startupListener(startupRecorder).build());
+
+        Map<String, Long> beanDurations = startupRecorder.getReport().getBeanDurations();
+        List<String> criticalPath = context.getDependencyGraph().getCriticalPath(beanDurations);
+        assertFalse(criticalPath.isEmpty());
+        assertTrue(context.getDependencyGraph().toJson(beanDurations).contains("\"criticalPath\":{\"costNanos\":"
+                + criticalPath.stream().mapToLong(beanId -> beanDurations.getOrDefault(beanId, 0L)).sum()));
+        assertTrue(context.getDependencyGraph().toDot(beanDurations).contains("\"userService\" -> \"mailServicePOP\""));
+    }
+}
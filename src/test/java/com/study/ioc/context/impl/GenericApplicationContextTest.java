@@ -1,24 +1,50 @@
 package com.study.ioc.context.impl;
 
+import com.study.entity.Colleague;
+import com.study.entity.ConnectionSettings;
 import com.study.entity.DefaultUserService;
+import com.study.entity.IMailService;
+import com.study.entity.MailClient;
 import com.study.entity.MailService;
+import com.study.entity.UserNotifier;
+import com.study.entity.UserService;
+import com.study.ioc.context.ContextOptions;
+import com.study.ioc.convert.ConversionService;
 import com.study.ioc.entity.Bean;
 import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
 import com.study.ioc.exception.BeanInstantiationException;
 import com.study.ioc.exception.NoSuchBeanDefinitionException;
 import com.study.ioc.exception.NoUniqueBeanOfTypeException;
+import com.study.ioc.graph.DependencyGraph;
+import com.study.ioc.metrics.LookupMetrics;
 import com.study.ioc.processor.BeanFactoryPostProcessor;
+import com.study.ioc.processor.BeanPostProcessor;
+import com.study.ioc.processor.IndependentBeanFactoryPostProcessor;
+import com.study.ioc.processor.Ordered;
 import com.study.ioc.processor.CustomBeanFactoryPostProcessor;
+import com.study.ioc.scope.RequestContext;
+import com.study.ioc.scope.Scope;
 import com.study.ioc.service.MessageService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 
@@ -102,6 +128,28 @@ public class GenericApplicationContextTest {
         genericApplicationContext.getBean(DefaultUserService.class);
     }
 
+    @Test
+    public void testGetBeanByInterface() {
+        Map<String, Bean> beanMap = new HashMap<>();
+        DefaultUserService beanValue1 = new DefaultUserService();
+        MailService beanValue2 = new MailService();
+        beanMap.put("bean1", new Bean("bean1", beanValue1));
+        beanMap.put("bean2", new Bean("bean2", beanValue2));
+        genericApplicationContext.setBeans(beanMap);
+        assertEquals(beanValue1, genericApplicationContext.getBean(UserService.class));
+        assertEquals(beanValue2, genericApplicationContext.getBean(IMailService.class));
+        assertNull(genericApplicationContext.getBean(Runnable.class));
+    }
+
+    @Test(expected = NoUniqueBeanOfTypeException.class)
+    public void testGetBeanBySuperclassNoUniqueBean() {
+        Map<String, Bean> beanMap = new HashMap<>();
+        beanMap.put("bean1", new Bean("bean1", new DefaultUserService()));
+        beanMap.put("bean2", new Bean("bean2", new MailService()));
+        genericApplicationContext.setBeans(beanMap);
+        genericApplicationContext.getBean(Object.class);
+    }
+
     @Test
     public void testGetBeanByIdAndClazz() {
         Map<String, Bean> beanMap = new HashMap<>();
@@ -332,4 +380,703 @@ public class GenericApplicationContextTest {
         assertEquals(6000, messageService.getPort());
         assertEquals("IMAP", messageService.getProtocol());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("test Lazy Init Beans")
+    public void testLazyInitBeans() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServiceIMAP", "com.study.entity.MailService");
+        beanDefinitionMailService.setValueDependencies(Map.of("protocol", "IMAP"));
+        beanDefinitionMap.put("mailServiceIMAP", beanDefinitionMailService);
+        BeanDefinition beanDefinitionUserService = new BeanDefinition("userService", "com.study.entity.DefaultUserService");
+        beanDefinitionUserService.setRefDependencies(Map.of("mailService", "mailServiceIMAP"));
+        beanDefinitionMap.put("userService", beanDefinitionUserService);
+        BeanDefinition beanDefinitionMessageService = new BeanDefinition("messageService", "com.study.ioc.service.MessageService");
+        beanDefinitionMessageService.setLazyInit(false);
+        beanDefinitionMap.put("messageService", beanDefinitionMessageService);
+
+        GenericApplicationContext lazyContext = new GenericApplicationContext(() -> beanDefinitionMap,
+                ContextOptions.builder().defaultLazyInit(true).build());
+
+        assertEquals(Set.of("messageService"), lazyContext.getBeanMap().keySet());
+        assertEquals(Set.of("messageService", "mailServiceIMAP", "userService"), new HashSet<>(lazyContext.getBeanNames()));
+
+        DefaultUserService userService = lazyContext.getBean(DefaultUserService.class);
+        assertSame(userService, lazyContext.getBean("userService"));
+        assertSame(lazyContext.getBean("mailServiceIMAP", MailService.class), userService.getMailService());
+        assertEquals(4467, ((MailService) userService.getMailService()).getPort());
+    }
+
+    @Test
+    @DisplayName("test Register And Remove Bean")
+    public void testRegisterAndRemoveBean() {
+        Map<String, Bean> beanMap = new HashMap<>();
+        MailService mailService = new MailService();
+        beanMap.put("mailServicePOP", new Bean("mailServicePOP", mailService));
+        genericApplicationContext.setBeans(beanMap);
+
+        DefaultUserService userService = new DefaultUserService();
+        genericApplicationContext.registerBean("userService", userService);
+
+        assertSame(userService, genericApplicationContext.getBean("userService"));
+        assertSame(userService, genericApplicationContext.getBean(UserService.class));
+        assertSame(mailService, genericApplicationContext.getBean(IMailService.class));
+        assertEquals(Set.of("mailServicePOP", "userService"), new HashSet<>(genericApplicationContext.getBeanNames()));
+
+        assertSame(userService, genericApplicationContext.removeBean("userService"));
+        assertNull(genericApplicationContext.getBean("userService"));
+        assertNull(genericApplicationContext.getBean(UserService.class));
+        assertNull(genericApplicationContext.removeBean("userService"));
+        assertEquals(List.of("mailServicePOP"), genericApplicationContext.getBeanNames());
+    }
+
+    @Test
+    @DisplayName("test Concurrent Lookups During Registration")
+    public void testConcurrentLookupsDuringRegistration() throws Exception {
+        MailService mailService = new MailService();
+        genericApplicationContext.registerBean("mailServicePOP", mailService);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> lookups = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                lookups.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        if (genericApplicationContext.getBean(IMailService.class) != mailService) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (int i = 0; i < 200; i++) {
+                genericApplicationContext.registerBean("userService" + i, new DefaultUserService());
+            }
+            for (Future<Boolean> lookup : lookups) {
+                assertTrue(lookup.get());
+            }
+            assertEquals(201, genericApplicationContext.getBeanNames().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("test Prototype And Pooled Scoped Beans")
+    public void testPrototypeAndPooledScopedBeans() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServiceIMAP", "com.study.entity.MailService");
+        beanDefinitionMailService.setValueDependencies(Map.of("protocol", "IMAP", "port", "143"));
+        beanDefinitionMailService.setScope("prototype");
+        beanDefinitionMap.put("mailServiceIMAP", beanDefinitionMailService);
+        BeanDefinition beanDefinitionUserService = new BeanDefinition("userService", "com.study.entity.DefaultUserService");
+        beanDefinitionUserService.setRefDependencies(Map.of("mailService", "mailServiceIMAP"));
+        beanDefinitionUserService.setScope("pooled");
+        beanDefinitionUserService.setScopeAttributes(Map.of("pool-max-size", "2"));
+        beanDefinitionMap.put("userService", beanDefinitionUserService);
+
+        GenericApplicationContext scopedContext = new GenericApplicationContext(() -> beanDefinitionMap);
+
+        assertTrue(scopedContext.getBeanMap().isEmpty());
+        assertEquals(Set.of("mailServiceIMAP", "userService"), new HashSet<>(scopedContext.getBeanNames()));
+        MailService firstMailService = scopedContext.getBean("mailServiceIMAP", MailService.class);
+        MailService secondMailService = scopedContext.getBean("mailServiceIMAP", MailService.class);
+        assertNotSame(firstMailService, secondMailService);
+        assertEquals(4467, secondMailService.getPort());
+        assertEquals("IMAP", secondMailService.getProtocol());
+
+        DefaultUserService firstUserService = scopedContext.getBean(DefaultUserService.class);
+        DefaultUserService secondUserService = (DefaultUserService) scopedContext.getBean("userService");
+        assertNotSame(firstUserService, secondUserService);
+        assertNotSame(firstUserService.getMailService(), secondUserService.getMailService());
+
+        scopedContext.releaseBean("userService", secondUserService);
+        assertSame(secondUserService, scopedContext.getBean("userService"));
+    }
+
+    @Test
+    @DisplayName("test Refresh Rebuilds Pool Of Changed Definition")
+    public void testRefreshRebuildsPoolOfChangedDefinition() {
+        GenericApplicationContext scopedContext = new GenericApplicationContext(() -> createPooledDefinitions("1"));
+        Object borrowedService = scopedContext.getBean("mailServicePOP");
+
+        assertEquals(Set.of("mailServicePOP"), scopedContext.refresh(createPooledDefinitions("2")));
+
+        Object firstService = scopedContext.getBean("mailServicePOP");
+        Object secondService = scopedContext.getBean("mailServicePOP");
+        assertNotSame(borrowedService, firstService);
+        assertNotSame(firstService, secondService);
+        scopedContext.releaseBean("mailServicePOP", borrowedService);
+        scopedContext.releaseBean("mailServicePOP", firstService);
+        assertSame(firstService, scopedContext.getBean("mailServicePOP"));
+    }
+
+    private Map<String, BeanDefinition> createPooledDefinitions(String maxSize) {
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("pooled");
+        beanDefinitionMailService.setScopeAttributes(Map.of("pool-max-size", maxSize));
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        beanDefinitionMap.put("mailServicePOP", beanDefinitionMailService);
+        return beanDefinitionMap;
+    }
+
+    @Test
+    @DisplayName("test Custom Scope")
+    public void testCustomScope() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("tenant");
+        beanDefinitionMap.put("mailServicePOP", beanDefinitionMailService);
+        Map<String, Object> tenantBeans = new HashMap<>();
+        Scope tenantScope = (beanDefinition, beanFactory) ->
+                tenantBeans.computeIfAbsent(beanDefinition.getId(), id -> beanFactory.get());
+
+        GenericApplicationContext scopedContext = new GenericApplicationContext(() -> beanDefinitionMap,
+                ContextOptions.builder().scope("tenant", tenantScope).build());
+
+        Object mailService = scopedContext.getBean("mailServicePOP");
+        assertSame(mailService, scopedContext.getBean("mailServicePOP"));
+        tenantBeans.clear();
+        assertNotSame(mailService, scopedContext.getBean("mailServicePOP"));
+    }
+
+    @Test(expected = BeanInstantiationException.class)
+    @DisplayName("test Unknown Scope")
+    public void testUnknownScope() {
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("session");
+
+        new GenericApplicationContext(() -> Map.of("mailServicePOP", beanDefinitionMailService));
+    }
+
+    @Test
+    @DisplayName("test Thread Scoped Beans")
+    public void testThreadScopedBeans() throws Exception {
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("thread");
+        GenericApplicationContext scopedContext =
+                new GenericApplicationContext(() -> Map.of("mailServicePOP", beanDefinitionMailService));
+
+        Object mailService = scopedContext.getBean("mailServicePOP");
+        assertSame(mailService, scopedContext.getBean("mailServicePOP"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertNotSame(mailService, executor.submit(() -> scopedContext.getBean("mailServicePOP")).get());
+        } finally {
+            executor.shutdown();
+        }
+
+        scopedContext.releaseBean("mailServicePOP", mailService);
+        assertNotSame(mailService, scopedContext.getBean("mailServicePOP"));
+    }
+
+    @Test
+    @DisplayName("test Close Drops Thread Scoped Beans Of All Threads")
+    public void testCloseDropsThreadScopedBeansOfAllThreads() throws Exception {
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("thread");
+        GenericApplicationContext scopedContext =
+                new GenericApplicationContext(() -> Map.of("mailServicePOP", beanDefinitionMailService));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Object pooledThreadMailService = executor.submit(() -> scopedContext.getBean("mailServicePOP")).get();
+            Object mailService = scopedContext.getBean("mailServicePOP");
+
+            scopedContext.close();
+
+            assertNotSame(mailService, scopedContext.getBean("mailServicePOP"));
+            assertNotSame(pooledThreadMailService, executor.submit(() -> scopedContext.getBean("mailServicePOP")).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("test Request Scoped Beans")
+    public void testRequestScopedBeans() throws Exception {
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setScope("request");
+        GenericApplicationContext scopedContext =
+                new GenericApplicationContext(() -> Map.of("mailServicePOP", beanDefinitionMailService));
+
+        RequestContext firstRequest = new RequestContext();
+        Object mailService = firstRequest.call(() -> scopedContext.getBean("mailServicePOP"));
+        assertSame(mailService, firstRequest.call(() -> scopedContext.getBean("mailServicePOP")));
+        assertNotSame(mailService, new RequestContext().call(() -> scopedContext.getBean("mailServicePOP")));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertSame(mailService, executor.submit(() -> firstRequest.call(
+                    () -> scopedContext.getBean("mailServicePOP"))).get());
+        } finally {
+            executor.shutdown();
+        }
+        assertNull(RequestContext.current());
+        assertThrows(BeanInstantiationException.class, () -> scopedContext.getBean("mailServicePOP"));
+    }
+
+    @Test
+    @DisplayName("test Refresh Recreates Changed Beans And Their Dependents")
+    public void testRefreshRecreatesChangedBeansAndTheirDependents() {
+        GenericApplicationContext reloadableContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        Object messageService = reloadableContext.getBean("messageService");
+        Object mailService = reloadableContext.getBean("mailServicePOP");
+        Object userService = reloadableContext.getBean("userService");
+
+        assertEquals(Set.of(), reloadableContext.refresh(createReloadableDefinitions("POP3")));
+        assertSame(mailService, reloadableContext.getBean("mailServicePOP"));
+
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("IMAP");
+        beanDefinitions.remove("messageService");
+        assertEquals(Set.of("mailServicePOP", "userService"), reloadableContext.refresh(beanDefinitions));
+
+        MailService reloadedMailService = reloadableContext.getBean("mailServicePOP", MailService.class);
+        DefaultUserService reloadedUserService = reloadableContext.getBean(DefaultUserService.class);
+        assertNotSame(mailService, reloadedMailService);
+        assertNotSame(userService, reloadedUserService);
+        assertEquals("IMAP", reloadedMailService.getProtocol());
+        assertSame(reloadedMailService, reloadedUserService.getMailService());
+        assertNull(reloadableContext.getBean("messageService"));
+        assertNotNull(messageService);
+        assertEquals(Set.of("mailServicePOP", "userService"), new HashSet<>(reloadableContext.getBeanNames()));
+    }
+
+    @Test
+    @DisplayName("test Ref Dependency Without Setter")
+    public void testRefDependencyWithoutSetter() {
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("POP3");
+        beanDefinitions.get("userService").setRefDependencies(Map.of("mailer", "mailServicePOP"));
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> beanDefinitions));
+        assertEquals("No setter for property mailer of bean userService", exception.getMessage());
+
+        beanDefinitions.get("userService").setLazyInit(true);
+        GenericApplicationContext lazyContext = new GenericApplicationContext(() -> beanDefinitions);
+        exception = assertThrows(BeanInstantiationException.class, () -> lazyContext.getBean("userService"));
+        assertEquals("No setter for property mailer of bean userService", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test Refresh Keeps Registered Beans")
+    public void testRefreshKeepsRegisteredBeans() {
+        GenericApplicationContext reloadableContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        MailService registeredMailService = new MailService();
+        reloadableContext.registerBean("mailServicePOP", registeredMailService);
+        MailService auditMailService = new MailService();
+        reloadableContext.registerBean("auditMailService", auditMailService);
+
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("IMAP");
+        BeanDefinition beanDefinitionAuditUserService = new BeanDefinition("auditUserService", "com.study.entity.DefaultUserService");
+        beanDefinitionAuditUserService.setRefDependencies(Map.of("mailService", "auditMailService"));
+        beanDefinitions.put("auditUserService", beanDefinitionAuditUserService);
+        assertEquals(Set.of("auditUserService"), reloadableContext.refresh(beanDefinitions));
+
+        assertSame(registeredMailService, reloadableContext.getBean("mailServicePOP"));
+        assertSame(auditMailService, reloadableContext.getBean("auditUserService", DefaultUserService.class).getMailService());
+    }
+
+    @Test
+    @DisplayName("test Refresh Creates Removed Bean Again")
+    public void testRefreshCreatesRemovedBeanAgain() {
+        GenericApplicationContext reloadableContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        Object messageService = reloadableContext.removeBean("messageService");
+        assertNull(reloadableContext.getBean("messageService"));
+
+        assertEquals(Set.of("messageService"), reloadableContext.refresh(createReloadableDefinitions("POP3")));
+        assertNotNull(reloadableContext.getBean("messageService"));
+        assertNotSame(messageService, reloadableContext.getBean("messageService"));
+    }
+
+    @Test
+    @DisplayName("test Failed Refresh Keeps Current Beans")
+    public void testFailedRefreshKeepsCurrentBeans() {
+        GenericApplicationContext reloadableContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        Object mailService = reloadableContext.getBean("mailServicePOP");
+
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("POP3");
+        beanDefinitions.get("mailServicePOP").setClassName("com.study.entity.MissingService");
+        assertThrows(BeanInstantiationException.class, () -> reloadableContext.refresh(beanDefinitions));
+
+        assertSame(mailService, reloadableContext.getBean("mailServicePOP"));
+        assertEquals(Set.of(), reloadableContext.refresh(createReloadableDefinitions("POP3")));
+    }
+
+    @Test
+    @DisplayName("test Failed Refresh Publishes No Deferred Definitions")
+    public void testFailedRefreshPublishesNoDeferredDefinitions() {
+        GenericApplicationContext reloadableContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("POP3");
+        BeanDefinition beanDefinitionLazyService = new BeanDefinition("lazyMailService", "com.study.entity.MailService");
+        beanDefinitionLazyService.setLazyInit(true);
+        beanDefinitions.put("lazyMailService", beanDefinitionLazyService);
+        beanDefinitions.get("messageService").setClassName("com.study.entity.MissingService");
+        assertThrows(BeanInstantiationException.class, () -> reloadableContext.refresh(beanDefinitions));
+
+        assertFalse(reloadableContext.containsBean("lazyMailService"));
+        assertNull(reloadableContext.getBean("lazyMailService"));
+        assertFalse(reloadableContext.getBeanNames().contains("lazyMailService"));
+
+        beanDefinitions.get("messageService").setClassName("com.study.ioc.service.MessageService");
+        assertEquals(Set.of("lazyMailService"), reloadableContext.refresh(beanDefinitions));
+        assertNotNull(reloadableContext.getBean("lazyMailService"));
+    }
+
+    @Test
+    @DisplayName("test Child Context Shares Unchanged Parent Beans")
+    public void testChildContextSharesUnchangedParentBeans() {
+        GenericApplicationContext parentContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        ContextOptions childOptions = ContextOptions.builder().parent(parentContext).build();
+        GenericApplicationContext childContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"), childOptions);
+
+        assertSame(parentContext.getBean("mailServicePOP"), childContext.getBean("mailServicePOP"));
+        assertSame(parentContext.getBean("userService"), childContext.getBean(DefaultUserService.class));
+        assertSame(parentContext.getBean("messageService"), childContext.getBean("messageService", MessageService.class));
+        assertEquals(Set.of(), childContext.getBeanMap().keySet());
+        assertSame(parentContext, childContext.getParent());
+
+        GenericApplicationContext imapContext = new GenericApplicationContext(() -> createReloadableDefinitions("IMAP"), childOptions);
+        MailService imapMailService = imapContext.getBean("mailServicePOP", MailService.class);
+        assertNotSame(parentContext.getBean("mailServicePOP"), imapMailService);
+        assertSame(imapMailService, imapContext.getBean(DefaultUserService.class).getMailService());
+        assertSame(parentContext.getBean("messageService"), imapContext.getBean("messageService"));
+        assertEquals(Set.of("mailServicePOP", "userService"), imapContext.getBeanMap().keySet());
+        assertEquals(Set.of("mailServicePOP", "userService", "messageService"), new HashSet<>(imapContext.getBeanNames()));
+    }
+
+    @Test
+    @DisplayName("test Child Context Resolves Refs To Parent Beans")
+    public void testChildContextResolvesRefsToParentBeans() {
+        GenericApplicationContext parentContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionUserService = new BeanDefinition("auditedUserService", "com.study.entity.DefaultUserService");
+        beanDefinitionUserService.setRefDependencies(Map.of("mailService", "mailServicePOP"));
+        beanDefinitionMap.put("auditedUserService", beanDefinitionUserService);
+
+        GenericApplicationContext childContext = new GenericApplicationContext(() -> beanDefinitionMap,
+                ContextOptions.builder().parent(parentContext).build());
+
+        DefaultUserService userService = childContext.getBean("auditedUserService", DefaultUserService.class);
+        assertSame(parentContext.getBean("mailServicePOP"), userService.getMailService());
+        assertTrue(childContext.containsBean("mailServicePOP"));
+        assertFalse(parentContext.containsBean("auditedUserService"));
+        assertNull(parentContext.getBean("auditedUserService"));
+        assertThrows(BeanInstantiationException.class, () -> new GenericApplicationContext(() -> beanDefinitionMap));
+    }
+
+    private Map<String, BeanDefinition> createReloadableDefinitions(String protocol) {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMailService.setValueDependencies(Map.of("protocol", protocol));
+        beanDefinitionMap.put("mailServicePOP", beanDefinitionMailService);
+        BeanDefinition beanDefinitionUserService = new BeanDefinition("userService", "com.study.entity.DefaultUserService");
+        beanDefinitionUserService.setRefDependencies(Map.of("mailService", "mailServicePOP"));
+        beanDefinitionMap.put("userService", beanDefinitionUserService);
+        BeanDefinition beanDefinitionMessageService = new BeanDefinition("messageService", "com.study.ioc.service.MessageService");
+        beanDefinitionMap.put("messageService", beanDefinitionMessageService);
+        return beanDefinitionMap;
+    }
+
+    @Test
+    @DisplayName("test Lookup Metrics")
+    public void testLookupMetrics() {
+        LookupMetrics lookupMetrics = new LookupMetrics();
+        GenericApplicationContext measuredContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"),
+                ContextOptions.builder().lookupMetrics(lookupMetrics).build());
+        assertEquals(0, lookupMetrics.getLookupCount());
+
+        measuredContext.getBean("userService");
+        measuredContext.getBean("missing");
+        measuredContext.getBean(MailService.class);
+        assertThrows(NoSuchBeanDefinitionException.class, () -> measuredContext.getBean("userService", MailService.class));
+
+        assertEquals(Map.of("BY_ID", 2L, "BY_TYPE", 1L, "BY_ID_AND_TYPE", 1L), lookupMetrics.getLookupCountsByKind());
+        assertEquals(Map.of("BY_ID", 1L, "BY_TYPE", 0L, "BY_ID_AND_TYPE", 1L), lookupMetrics.getMissCountsByKind());
+        assertTrue(lookupMetrics.getHotLookups().containsKey("BY_TYPE com.study.entity.MailService"));
+    }
+
+    @Test
+    @DisplayName("test Post Processors Only Run For Applicable Beans")
+    public void testPostProcessorsOnlyRunForApplicableBeans() {
+        List<String> processedBeanIds = new ArrayList<>();
+        BeanPostProcessor mailServicePostProcessor = new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(String beanName, Bean bean) {
+                processedBeanIds.add(beanName);
+                return bean.getValue();
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(String beanName, Bean bean) {
+                return new MailService();
+            }
+
+            @Override
+            public boolean appliesTo(Class<?> beanClass) {
+                return IMailService.class.isAssignableFrom(beanClass);
+            }
+        };
+        genericApplicationContext.setBeanPostProcessorsMap(
+                Map.of("mailServicePostProcessor", new Bean("mailServicePostProcessor", mailServicePostProcessor)));
+        Map<String, Bean> beanMap = new HashMap<>();
+        MailService mailService = new MailService();
+        DefaultUserService userService = new DefaultUserService();
+        beanMap.put("mailServicePOP", new Bean("mailServicePOP", mailService));
+        beanMap.put("userService", new Bean("userService", userService));
+
+        genericApplicationContext.processBeansBeforeInitialization(beanMap);
+        genericApplicationContext.processBeansAfterInitialization(beanMap);
+
+        assertEquals(List.of("mailServicePOP"), processedBeanIds);
+        assertNotSame(mailService, beanMap.get("mailServicePOP").getValue());
+        assertSame(userService, beanMap.get("userService").getValue());
+    }
+
+    @Test
+    @DisplayName("test Bean Factory Post Processors Run In Order With Change Tracking")
+    public void testBeanFactoryPostProcessorsRunInOrderWithChangeTracking() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        beanDefinitionMap.put("zeta", new BeanDefinition("zeta", TracingPostProcessor.class.getName()));
+        beanDefinitionMap.put("alpha", new BeanDefinition("alpha", TracingPostProcessor.class.getName()));
+        beanDefinitionMap.put("first", new BeanDefinition("first", FirstTracingPostProcessor.class.getName()));
+        BeanDefinition beanDefinitionMailService = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+        beanDefinitionMap.put("mailServicePOP", beanDefinitionMailService);
+        beanDefinitionMap.put("userService", new BeanDefinition("userService", "com.study.entity.DefaultUserService"));
+
+        genericApplicationContext.createBeanPostProcessors(beanDefinitionMap);
+        Set<String> changedBeanIds = genericApplicationContext.processBeanDefinitions(beanDefinitionMap);
+
+        assertEquals("first,default,default", beanDefinitionMailService.getValueDependencies().get("protocol"));
+        assertEquals(Set.of("mailServicePOP"), changedBeanIds);
+        assertEquals(changedBeanIds, genericApplicationContext.getModifiedBeanDefinitionIds());
+    }
+
+    @Test
+    @DisplayName("test Independent Bean Factory Post Processors Run In Parallel")
+    public void testIndependentBeanFactoryPostProcessorsRunInParallel() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        beanDefinitionMap.put("lazyPostProcessor", new BeanDefinition("lazyPostProcessor", LazyInitPostProcessor.class.getName()));
+        for (int i = 0; i < 100; i++) {
+            beanDefinitionMap.put("mailService" + i, new BeanDefinition("mailService" + i, "com.study.entity.MailService"));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            GenericApplicationContext parallelContext = new GenericApplicationContext(() -> beanDefinitionMap,
+                    ContextOptions.builder().executor(executor).build());
+
+            assertEquals(101, parallelContext.getModifiedBeanDefinitionIds().size());
+            assertEquals(List.of(), parallelContext.getBeanMap().keySet().stream().toList());
+            assertEquals(101, parallelContext.getBeanNames().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("test Constructor Injection")
+    public void testConstructorInjection() {
+        Map<String, BeanDefinition> beanDefinitionMap = createReloadableDefinitions("POP3");
+        BeanDefinition beanDefinitionSmtpClient = new BeanDefinition("smtpClient", "com.study.entity.MailClient");
+        beanDefinitionSmtpClient.setConstructorArguments(List.of(new ConstructorArgument(1, "25", null),
+                new ConstructorArgument(null, "smtp.host", null)));
+        beanDefinitionMap.put("smtpClient", beanDefinitionSmtpClient);
+        BeanDefinition beanDefinitionPopClient = new BeanDefinition("popClient", "com.study.entity.MailClient");
+        beanDefinitionPopClient.setConstructorArguments(List.of(new ConstructorArgument(null, null, "mailServicePOP"),
+                new ConstructorArgument(null, "pop.host", null)));
+        beanDefinitionMap.put("popClient", beanDefinitionPopClient);
+
+        GenericApplicationContext constructorContext = new GenericApplicationContext(() -> beanDefinitionMap);
+
+        MailClient smtpClient = (MailClient) constructorContext.getBean("smtpClient");
+        assertEquals("smtp.host", smtpClient.getHost());
+        assertEquals(25, smtpClient.getPort());
+        assertNull(smtpClient.getMailService());
+        MailClient popClient = (MailClient) constructorContext.getBean("popClient");
+        assertEquals("pop.host", popClient.getHost());
+        assertSame(constructorContext.getBean("mailServicePOP"), popClient.getMailService());
+    }
+
+    @Test
+    @DisplayName("test Constructor Injection Without Matching Constructor")
+    public void testConstructorInjectionWithoutMatchingConstructor() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        BeanDefinition beanDefinitionMailClient = new BeanDefinition("mailClient", "com.study.entity.MailClient");
+        beanDefinitionMailClient.setConstructorArguments(List.of(new ConstructorArgument(null, "smtp.host", null)));
+        beanDefinitionMap.put("mailClient", beanDefinitionMailClient);
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> beanDefinitionMap));
+        assertEquals("No constructor of com.study.entity.MailClient matches the arguments of bean mailClient",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test Circular Constructor References")
+    public void testCircularConstructorReferences() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        for (String[] beanIds : new String[][]{{"firstClient", "secondClient"}, {"secondClient", "firstClient"}}) {
+            BeanDefinition beanDefinition = new BeanDefinition(beanIds[0], "com.study.entity.MailClient");
+            beanDefinition.setConstructorArguments(List.of(new ConstructorArgument(null, null, beanIds[1]),
+                    new ConstructorArgument(null, "host", null)));
+            beanDefinitionMap.put(beanIds[0], beanDefinition);
+        }
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> beanDefinitionMap));
+        assertTrue(exception.getMessage().startsWith("Circular constructor reference to bean"));
+    }
+
+    @Test
+    @DisplayName("test Setter Cycle Between Lazy Beans")
+    public void testSetterCycleBetweenLazyBeans() {
+        Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+        for (String[] beanIds : new String[][]{{"first", "second"}, {"second", "first"}}) {
+            BeanDefinition beanDefinition = new BeanDefinition(beanIds[0], "com.study.entity.Colleague");
+            beanDefinition.setRefDependencies(Map.of("peer", beanIds[1]));
+            beanDefinitionMap.put(beanIds[0], beanDefinition);
+        }
+
+        GenericApplicationContext lazyContext = new GenericApplicationContext(() -> beanDefinitionMap,
+                ContextOptions.builder().defaultLazyInit(true).build());
+
+        Colleague first = lazyContext.getBean("first", Colleague.class);
+        Colleague second = lazyContext.getBean("second", Colleague.class);
+        assertSame(second, first.getPeer());
+        assertSame(first, second.getPeer());
+    }
+
+    @Test
+    @DisplayName("test Constructor Injection Of Lazy Bean With Setter Refs")
+    public void testConstructorInjectionOfLazyBeanWithSetterRefs() {
+        Map<String, BeanDefinition> beanDefinitionMap = createReloadableDefinitions("POP3");
+        beanDefinitionMap.get("userService").setLazyInit(true);
+        BeanDefinition beanDefinitionNotifier = new BeanDefinition("userNotifier", "com.study.entity.UserNotifier");
+        beanDefinitionNotifier.setConstructorArguments(List.of(new ConstructorArgument(null, null, "userService")));
+        beanDefinitionMap.put("userNotifier", beanDefinitionNotifier);
+
+        GenericApplicationContext constructorContext = new GenericApplicationContext(() -> beanDefinitionMap);
+
+        UserNotifier userNotifier = constructorContext.getBean("userNotifier", UserNotifier.class);
+        DefaultUserService userService = (DefaultUserService) userNotifier.getUserService();
+        assertSame(constructorContext.getBean("userService"), userService);
+        assertSame(constructorContext.getBean("mailServicePOP"), userService.getMailService());
+    }
+
+    @Test
+    @DisplayName("test Constructor Injection Of Scoped Bean With Refs")
+    public void testConstructorInjectionOfScopedBeanWithRefs() {
+        Map<String, BeanDefinition> beanDefinitionMap = createReloadableDefinitions("POP3");
+        beanDefinitionMap.get("userService").setScope("prototype");
+        BeanDefinition beanDefinitionNotifier = new BeanDefinition("userNotifier", "com.study.entity.UserNotifier");
+        beanDefinitionNotifier.setConstructorArguments(List.of(new ConstructorArgument(null, null, "userService")));
+        beanDefinitionMap.put("userNotifier", beanDefinitionNotifier);
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> beanDefinitionMap));
+        assertEquals("Bean userNotifier can`t get scoped bean userService through its constructor, "
+                + "as the refs of userService aren`t created yet", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test Inject Converted Value Dependencies")
+    public void testInjectConvertedValueDependencies() {
+        BeanDefinition beanDefinitionSettings = new BeanDefinition("settings", "com.study.entity.ConnectionSettings");
+        Map<String, String> valueDependencies = new HashMap<>();
+        valueDependencies.put("secure", "true");
+        valueDependencies.put("maxMessageSize", "10485760");
+        valueDependencies.put("retryFactor", "1.5");
+        valueDependencies.put("timeUnit", "SECONDS");
+        valueDependencies.put("timeout", "30s");
+        valueDependencies.put("spoolDirectory", "/var/spool/mail");
+        valueDependencies.put("ports", "25,465");
+        valueDependencies.put("hosts", "smtp.host,pop.host");
+        valueDependencies.put("endpoint", "smtp://smtp.host:25");
+        beanDefinitionSettings.setValueDependencies(valueDependencies);
+        ConversionService conversionService = new ConversionService().addConverter(URI.class, URI::create);
+
+        GenericApplicationContext convertingContext = new GenericApplicationContext(
+                () -> Map.of("settings", beanDefinitionSettings),
+                ContextOptions.builder().conversionService(conversionService).build());
+
+        ConnectionSettings settings = convertingContext.getBean(ConnectionSettings.class);
+        assertTrue(settings.isSecure());
+        assertEquals(10485760L, settings.getMaxMessageSize());
+        assertEquals(Double.valueOf(1.5), settings.getRetryFactor());
+        assertEquals(TimeUnit.SECONDS, settings.getTimeUnit());
+        assertEquals(Duration.ofSeconds(30), settings.getTimeout());
+        assertEquals(Path.of("/var/spool/mail"), settings.getSpoolDirectory());
+        assertEquals(List.of(25, 465), settings.getPorts());
+        assertEquals(Set.of("smtp.host", "pop.host"), settings.getHosts());
+        assertEquals(URI.create("smtp://smtp.host:25"), settings.getEndpoint());
+    }
+
+    @Test
+    @DisplayName("test Inject Value Without Converter")
+    public void testInjectValueWithoutConverter() {
+        BeanDefinition beanDefinitionSettings = new BeanDefinition("settings", "com.study.entity.ConnectionSettings");
+        beanDefinitionSettings.setValueDependencies(Map.of("endpoint", "smtp://smtp.host:25"));
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> Map.of("settings", beanDefinitionSettings)));
+        assertEquals("Can`t convert value of property endpoint of bean settings", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test Missing Ref Fails Before Beans Are Created")
+    public void testMissingRefFailsBeforeBeansAreCreated() {
+        Map<String, BeanDefinition> beanDefinitionMap = createReloadableDefinitions("POP3");
+        beanDefinitionMap.get("userService").setRefDependencies(Map.of("mailService", "mailServiceSMTP"));
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> new GenericApplicationContext(() -> beanDefinitionMap));
+        assertEquals("No bean mailServiceSMTP referenced by userService.mailService -> mailServiceSMTP",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test Dependency Graph")
+    public void testDependencyGraph() {
+        GenericApplicationContext graphContext = new GenericApplicationContext(() -> createReloadableDefinitions("POP3"));
+
+        DependencyGraph dependencyGraph = graphContext.getDependencyGraph();
+        assertEquals(List.of(List.of("mailServicePOP", "messageService"), List.of("userService")),
+                dependencyGraph.getLevels());
+
+        Map<String, BeanDefinition> beanDefinitions = createReloadableDefinitions("POP3");
+        beanDefinitions.remove("userService");
+        graphContext.refresh(beanDefinitions);
+        assertEquals(List.of(List.of("mailServicePOP", "messageService")), graphContext.getDependencyGraph().getLevels());
+    }
+
+    public static class TracingPostProcessor implements BeanFactoryPostProcessor {
+        @Override
+        public void postProcessBeanFactory(Map<String, BeanDefinition> beanDefinitionsMap) {
+            trace(beanDefinitionsMap, "default");
+        }
+
+        static void trace(Map<String, BeanDefinition> beanDefinitionsMap, String name) {
+            BeanDefinition beanDefinition = beanDefinitionsMap.get("mailServicePOP");
+            Map<String, String> valueDependencies = new HashMap<>(beanDefinition.getValueDependencies());
+            valueDependencies.merge("protocol", name, (previous, next) -> previous + "," + next);
+            beanDefinition.setValueDependencies(valueDependencies);
+        }
+    }
+
+    public static class FirstTracingPostProcessor implements BeanFactoryPostProcessor, Ordered {
+        @Override
+        public void postProcessBeanFactory(Map<String, BeanDefinition> beanDefinitionsMap) {
+            TracingPostProcessor.trace(beanDefinitionsMap, "first");
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    public static class LazyInitPostProcessor implements IndependentBeanFactoryPostProcessor {
+        @Override
+        public void postProcessBeanDefinition(BeanDefinition beanDefinition) {
+            beanDefinition.setLazyInit(true);
+        }
+    }
+}
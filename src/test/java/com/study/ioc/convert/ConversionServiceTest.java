@@ -0,0 +1,81 @@
+package com.study.ioc.convert;
+
+import com.study.entity.ConnectionSettings;
+import com.study.ioc.exception.ConversionException;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConversionServiceTest {
+
+    private final ConversionService conversionService = new ConversionService();
+
+    @Test
+    public void testConvertPrimitivesAndBoxedTypes() {
+        assertEquals(Integer.valueOf(25), conversionService.convert(" 25 ", Integer.TYPE));
+        assertEquals(Long.valueOf(1L << 40), conversionService.convert("1099511627776", Long.class));
+        assertEquals(Double.valueOf(1.5), conversionService.convert("1.5", Double.TYPE));
+        assertEquals(Boolean.TRUE, conversionService.convert("TRUE", Boolean.TYPE));
+        assertEquals(Character.valueOf('x'), conversionService.convert("x", Character.class));
+        assertEquals(" host ", conversionService.convert(" host ", String.class));
+    }
+
+    @Test
+    public void testConvertEnumDurationAndPath() {
+        assertEquals(TimeUnit.SECONDS, conversionService.convert("SECONDS", TimeUnit.class));
+        assertEquals(Duration.ofSeconds(30), conversionService.convert("PT30S", Duration.class));
+        assertEquals(Duration.ofMillis(250), conversionService.convert("250", Duration.class));
+        assertEquals(Duration.ofMinutes(5), conversionService.convert("5m", Duration.class));
+        assertEquals(Path.of("/var/spool"), conversionService.convert("/var/spool", Path.class));
+    }
+
+    @Test
+    public void testConvertCollections() throws Exception {
+        Type portsType = ConnectionSettings.class.getMethod("setPorts", List.class).getGenericParameterTypes()[0];
+        Type hostsType = ConnectionSettings.class.getMethod("setHosts", Set.class).getGenericParameterTypes()[0];
+
+        assertEquals(List.of(25, 465, 587), conversionService.convert("25, 465,587", portsType));
+        assertEquals(List.of("b", "a"), List.copyOf((Set<?>) conversionService.convert("b,a,b", hostsType)));
+        assertEquals(List.of(), conversionService.convert("", portsType));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) conversionService.convert("1", portsType)).clear());
+    }
+
+    @Test
+    public void testConvertedValuesAreCached() {
+        AtomicInteger conversions = new AtomicInteger();
+        conversionService.addConverter(URI.class, value -> {
+            conversions.incrementAndGet();
+            return URI.create(value);
+        });
+
+        URI endpoint = conversionService.convert("smtp://localhost:25", URI.class);
+
+        assertSame(endpoint, conversionService.convert("smtp://localhost:25", URI.class));
+        assertEquals(1, conversions.get());
+        assertTrue(conversionService.canConvert(URI.class));
+    }
+
+    @Test
+    public void testConvertWithoutConverter() {
+        assertFalse(conversionService.canConvert(AtomicInteger.class));
+        ConversionException exception = assertThrows(ConversionException.class,
+                () -> conversionService.convert("1", AtomicInteger.class));
+        assertEquals("No converter for type java.util.concurrent.atomic.AtomicInteger", exception.getMessage());
+    }
+
+    @Test
+    public void testConvertInvalidValue() {
+        assertThrows(ConversionException.class, () -> conversionService.convert("yes", Boolean.TYPE));
+        assertThrows(ConversionException.class, () -> conversionService.convert("MINUTE", TimeUnit.class));
+        assertThrows(ConversionException.class, () -> conversionService.convert("12x", Integer.TYPE));
+    }
+}
@@ -0,0 +1,98 @@
+package com.study.ioc.graph;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class DependencyGraphTest {
+
+    @Test
+    public void testLevelsAndComponents() {
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+        addBean(beanDefinitions, "mailService", Map.of());
+        addBean(beanDefinitions, "userService", Map.of("mailService", "mailService"));
+        addBean(beanDefinitions, "messageService", Map.of("userService", "userService", "mailService", "mailService"));
+        addBean(beanDefinitions, "user", Map.of());
+
+        DependencyGraph graph = DependencyGraph.of(beanDefinitions);
+
+        assertEquals(List.of(List.of("mailService", "user"), List.of("userService"), List.of("messageService")),
+                graph.getLevels());
+        assertEquals(2, graph.getLevel("messageService"));
+        assertEquals(4, graph.getStronglyConnectedComponents().size());
+        assertEquals(List.of(), graph.getCycles());
+        assertEquals(List.of(), graph.getDanglingDependencies());
+    }
+
+    @Test
+    public void testCyclesAndDanglingDependencies() {
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+        addBean(beanDefinitions, "a", Map.of("next", "b"));
+        addBean(beanDefinitions, "b", Map.of("next", "c"));
+        addBean(beanDefinitions, "c", Map.of("first", "a", "missing", "missingService"));
+        addBean(beanDefinitions, "d", Map.of("self", "d", "cycle", "a"));
+
+        DependencyGraph graph = DependencyGraph.of(beanDefinitions);
+
+        List<String> cycles = graph.getCycles().stream().map(DependencyGraph::formatPath).toList();
+        assertEquals(List.of("a.next -> b.next -> c.first -> a", "d.self -> d"), cycles);
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("d")), graph.getLevels());
+        assertEquals(1, graph.getDanglingDependencies().size());
+        assertEquals("c.missing -> missingService", graph.getDanglingDependencies().get(0).toString());
+        assertEquals(List.of(), graph.getConstructorCycles());
+    }
+
+    @Test
+    public void testConstructorCycles() {
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+        addBean(beanDefinitions, "a", Map.of()).setConstructorArguments(List.of(new ConstructorArgument(null, null, "b")));
+        addBean(beanDefinitions, "b", Map.of("a", "a"));
+        addBean(beanDefinitions, "c", Map.of()).setConstructorArguments(List.of(new ConstructorArgument(null, null, "d")));
+        addBean(beanDefinitions, "d", Map.of()).setConstructorArguments(List.of(new ConstructorArgument(1, null, "c")));
+
+        DependencyGraph graph = DependencyGraph.of(beanDefinitions);
+
+        assertEquals(2, graph.getCycles().size());
+        List<List<Dependency>> constructorCycles = graph.getConstructorCycles();
+        assertEquals(1, constructorCycles.size());
+        assertEquals("c.constructor[0] -> d.constructor[1] -> c", DependencyGraph.formatPath(constructorCycles.get(0)));
+    }
+
+    @Test
+    public void testCriticalPathAndExport() {
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>();
+        addBean(beanDefinitions, "fastService", Map.of());
+        addBean(beanDefinitions, "slowService", Map.of());
+        addBean(beanDefinitions, "userService", Map.of("fast", "fastService", "slow", "slowService"));
+        addBean(beanDefinitions, "user", Map.of());
+        Map<String, Long> costNanos = Map.of("fastService", 1_000L, "slowService", 5_000_000L,
+                "userService", 2_000L, "user", 4_000_000L);
+
+        DependencyGraph graph = DependencyGraph.of(beanDefinitions);
+
+        assertEquals(List.of("slowService", "userService"), graph.getCriticalPath(costNanos));
+        String dot = graph.toDot(costNanos);
+        assertTrue(dot.startsWith("digraph beans {"));
+        assertTrue(dot.contains("\"userService\" -> \"slowService\" [label=\"slow\"];"));
+        assertTrue(dot.contains("\"slowService\" [label=\"slowService\\ncom.study.entity.MailService\\n5.000 ms\", color=red];"));
+        String json = graph.toJson(costNanos);
+        assertTrue(json.contains("{\"id\":\"userService\",\"className\":\"com.study.entity.MailService\",\"level\":1,"
+                + "\"costNanos\":2000,\"dependencies\":[{\"ref\":\"fastService\",\"name\":\"fast\",\"constructorArgument\":false},"
+                + "{\"ref\":\"slowService\",\"name\":\"slow\",\"constructorArgument\":false}]}"));
+        assertTrue(json.endsWith("\"criticalPath\":{\"costNanos\":5002000,\"beans\":[\"slowService\",\"userService\"]}}"));
+    }
+
+    private static BeanDefinition addBean(Map<String, BeanDefinition> beanDefinitions, String beanId,
+                                          Map<String, String> refDependencies) {
+        BeanDefinition beanDefinition = new BeanDefinition(beanId, "com.study.entity.MailService");
+        beanDefinition.setRefDependencies(refDependencies);
+        beanDefinitions.put(beanId, beanDefinition);
+        return beanDefinition;
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.ioc.json;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonStringsTest {
+
+    @Test
+    @DisplayName("test Append String Escapes Quotes And Backslashes")
+    public void testAppendStringEscapesQuotesAndBackslashes() {
+        assertEquals("\"say \\\"hi\\\" to C:\\\\beans\"", appendString("say \"hi\" to C:\\beans"));
+    }
+
+    @Test
+    @DisplayName("test Append String Escapes Control Characters")
+    public void testAppendStringEscapesControlCharacters() {
+        assertEquals("\"a\\u000ab\\u0009c\\u0000d\\u001f\"", appendString("a\nb\tc\u0000d\u001f"));
+    }
+
+    @Test
+    @DisplayName("test Append String Keeps Other Characters")
+    public void testAppendStringKeepsOtherCharacters() {
+        assertEquals("\"mailService/ü €\"", appendString("mailService/ü €"));
+    }
+
+    private static String appendString(String value) {
+        StringBuilder json = new StringBuilder();
+        JsonStrings.appendString(json, value);
+        return json.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.study.ioc.metrics;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class LookupMetricsTest {
+
+    @Test
+    @DisplayName("test Lookups Are Counted Per Kind And Key")
+    public void testLookupsAreCountedPerKindAndKey() {
+        LookupMetrics lookupMetrics = new LookupMetrics();
+        for (int i = 0; i < 99; i++) {
+            lookupMetrics.record(LookupKind.BY_ID, "userService", 100, true);
+        }
+        lookupMetrics.record(LookupKind.BY_ID, "missing", 5000, false);
+        lookupMetrics.record(LookupKind.BY_TYPE, "com.study.entity.MailService", 300, true);
+
+        assertEquals(101, lookupMetrics.getLookupCount());
+        assertEquals(1, lookupMetrics.getMissCount());
+        assertEquals(Map.of("BY_ID", 100L, "BY_TYPE", 1L, "BY_ID_AND_TYPE", 0L), lookupMetrics.getLookupCountsByKind());
+        assertEquals("BY_ID userService", lookupMetrics.getHotLookups().keySet().iterator().next());
+
+        LookupStatistics byId = lookupMetrics.getKindStatistics().get(0);
+        assertEquals(LookupKind.BY_ID, byId.getKind());
+        assertEquals(128, byId.getPercentileNanos(50));
+        assertEquals(128, byId.getPercentileNanos(99));
+        assertEquals(8192, byId.getPercentileNanos(100));
+        assertEquals(149, byId.getMeanNanos(), 0.001);
+
+        lookupMetrics.reset();
+        assertEquals(0, lookupMetrics.getLookupCount());
+        assertTrue(lookupMetrics.getKeyStatistics().isEmpty());
+    }
+
+    @Test
+    @DisplayName("test Misses And Keys Past The Limit Share The Overflow Bucket")
+    public void testMissesAndKeysPastTheLimitShareTheOverflowBucket() {
+        LookupMetrics lookupMetrics = new LookupMetrics(3);
+        for (int i = 0; i < 1000; i++) {
+            lookupMetrics.record(LookupKind.BY_ID, "missing" + i, 100, false);
+        }
+        lookupMetrics.record(LookupKind.BY_ID, "userService", 100, true);
+        lookupMetrics.record(LookupKind.BY_ID, "mailServicePOP", 100, true);
+        lookupMetrics.record(LookupKind.BY_ID, "mailServiceIMAP", 100, true);
+
+        List<LookupStatistics> keyStatistics = lookupMetrics.getKeyStatistics();
+        assertEquals(Set.of(LookupMetrics.OTHER_KEY, "userService", "mailServicePOP"),
+                keyStatistics.stream().map(LookupStatistics::getKey).collect(Collectors.toSet()));
+        assertEquals(3, keyStatistics.size());
+        assertEquals(LookupMetrics.OTHER_KEY, keyStatistics.get(0).getKey());
+        assertEquals(1001, keyStatistics.get(0).getCount());
+        assertEquals(1000, keyStatistics.get(0).getMisses());
+        assertEquals(1003, lookupMetrics.getLookupCount());
+    }
+
+    @Test
+    @DisplayName("test Export And MBean Registration")
+    public void testExportAndMBeanRegistration() throws Exception {
+        LookupMetrics lookupMetrics = new LookupMetrics();
+        lookupMetrics.record(LookupKind.BY_ID_AND_TYPE, "mailServicePOP", 50, true);
+        List<LookupStatistics> exported = new ArrayList<>();
+        lookupMetrics.export((kindStatistics, keyStatistics) -> exported.addAll(keyStatistics));
+        assertEquals(1, exported.size());
+        assertEquals("mailServicePOP", exported.get(0).getKey());
+
+        ObjectName objectName = lookupMetrics.registerMBean("test-context");
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "LookupCount"));
+        } finally {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.study.ioc.property;
+
+import com.study.entity.DefaultUserService;
+import com.study.entity.IMailService;
+import com.study.entity.MailService;
+import com.study.ioc.exception.BeanInstantiationException;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class BeanPropertyCacheTest {
+
+    private final BeanPropertyCache beanPropertyCache = new BeanPropertyCache();
+
+    @Test
+    public void testGetProperty() {
+        BeanProperty portProperty = beanPropertyCache.getProperty(MailService.class, "port");
+        assertEquals("port", portProperty.getName());
+        assertEquals("setPort", portProperty.getSetter().getName());
+        assertEquals(Integer.TYPE, portProperty.getType());
+
+        BeanProperty mailServiceProperty = beanPropertyCache.getProperty(DefaultUserService.class, "mailService");
+        assertEquals(IMailService.class, mailServiceProperty.getType());
+    }
+
+    @Test
+    public void testGetPropertyReusesResolvedSetter() {
+        BeanProperty first = beanPropertyCache.getProperty(MailService.class, "protocol");
+        BeanProperty second = beanPropertyCache.getProperty(MailService.class, "protocol");
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testGetMissingProperty() {
+        assertNull(beanPropertyCache.getProperty(MailService.class, "host"));
+        assertEquals(2, beanPropertyCache.getProperties(MailService.class).size());
+    }
+
+    @Test
+    public void testPropertyNamesFollowJavaBeansDecapitalization() {
+        assertEquals("URL", beanPropertyCache.getProperty(Endpoint.class, "URL").getName());
+        assertEquals("x", beanPropertyCache.getProperty(Endpoint.class, "x").getName());
+        assertNull(beanPropertyCache.getProperty(Endpoint.class, "url"));
+    }
+
+    @Test
+    public void testPropertiesResolveThroughTheirSetterName() {
+        assertEquals("setURL", beanPropertyCache.getProperty(Endpoint.class, "uRL").getSetter().getName());
+        assertEquals("setXCoordinate", beanPropertyCache.getProperty(Endpoint.class, "xCoordinate").getSetter().getName());
+        assertEquals("setXCoordinate", beanPropertyCache.getProperty(Endpoint.class, "XCoordinate").getSetter().getName());
+    }
+
+    @Test
+    public void testOverloadedSettersAreRejected() {
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class,
+                () -> beanPropertyCache.getProperty(Endpoint.class, "timeout"));
+        assertTrue(exception.getMessage().contains("overloaded setters of property timeout"));
+        assertEquals(Set.of("URL", "x", "XCoordinate"), beanPropertyCache.getProperties(Endpoint.class).keySet());
+    }
+
+    public static class Endpoint {
+        public void setURL(String url) {
+        }
+
+        public void setX(int x) {
+        }
+
+        public void setXCoordinate(int xCoordinate) {
+        }
+
+        public void setTimeout(int timeout) {
+        }
+
+        public void setTimeout(String timeout) {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.ioc.reader.index;
+
+import com.study.entity.component.AuditLog;
+import com.study.entity.component.MailNotifier;
+import com.study.entity.component.SmtpTransport;
+import com.study.ioc.context.impl.GenericApplicationContext;
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ComponentIndexReaderTest {
+
+    @Test
+    public void testGetBeanDefinitionFromIndex() {
+        Map<String, BeanDefinition> beanDefinitionMap =
+                new ComponentIndexReader("com.study.entity.component").getBeanDefinition();
+
+        assertEquals(Set.of("smtpTransport", "notifier", "auditLog"), beanDefinitionMap.keySet());
+        BeanDefinition smtpTransportDefinition = beanDefinitionMap.get("smtpTransport");
+        assertEquals(SmtpTransport.class.getName(), smtpTransportDefinition.getClassName());
+        assertEquals(Map.of("host", "smtp.host", "port", "25", "TLSVersion", "TLSv1.3"), smtpTransportDefinition.getValueDependencies());
+        assertNull(smtpTransportDefinition.getLazyInit());
+        BeanDefinition notifierDefinition = beanDefinitionMap.get("notifier");
+        assertTrue(notifierDefinition.getLazyInit());
+        assertEquals(List.of(new ConstructorArgument(0, null, "smtpTransport"),
+                new ConstructorArgument(1, "noreply@study.com", null)), notifierDefinition.getConstructorArguments());
+        BeanDefinition auditLogDefinition = beanDefinitionMap.get("auditLog");
+        assertEquals("prototype", auditLogDefinition.getScope());
+        assertEquals(Map.of("smtpTransport", "smtpTransport"), auditLogDefinition.getRefDependencies());
+    }
+
+    @Test
+    public void testGetBeanDefinitionOfOtherPackage() {
+        assertEquals(Map.of(), new ComponentIndexReader("com.study.ioc").getBeanDefinition());
+    }
+
+    @Test
+    public void testCreateContextFromIndex() {
+        GenericApplicationContext context = new GenericApplicationContext(new ComponentIndexReader("com.study.entity.component"));
+
+        SmtpTransport smtpTransport = context.getBean(SmtpTransport.class);
+        assertEquals("smtp.host", smtpTransport.getHost());
+        assertEquals(25, smtpTransport.getPort());
+        assertEquals("TLSv1.3", smtpTransport.getTLSVersion());
+        MailNotifier notifier = context.getBean("notifier", MailNotifier.class);
+        assertSame(smtpTransport, notifier.getTransport());
+        assertEquals("noreply@study.com", notifier.getSender());
+        assertEquals(Duration.ofSeconds(5), notifier.getRetryDelay());
+        AuditLog auditLog = context.getBean("auditLog", AuditLog.class);
+        assertSame(smtpTransport, auditLog.getSmtpTransport());
+        assertNotSame(auditLog, context.getBean("auditLog"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ComponentIndexTest {
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        BeanDefinition beanDefinition = new BeanDefinition("mailClient", "com.study.entity.MailClient");
+        beanDefinition.setScope("pooled");
+        beanDefinition.setLazyInit(true);
+        beanDefinition.getValueDependencies().put("signature", "Regards,\n\tthe\\team");
+        beanDefinition.getRefDependencies().put("mailService", "mailServicePOP");
+        beanDefinition.getConstructorArguments().add(new ConstructorArgument(0, null, "mailServicePOP"));
+        beanDefinition.getConstructorArguments().add(new ConstructorArgument(1, "smtp.host", null));
+        StringWriter writer = new StringWriter();
+
+        ComponentIndex.write(writer, List.of(beanDefinition, new BeanDefinition("user", "com.study.entity.User")));
+        List<BeanDefinition> beanDefinitions = ComponentIndex.read(new StringReader(writer.toString()), "test");
+
+        assertEquals(2, beanDefinitions.size());
+        BeanDefinition readDefinition = beanDefinitions.get(0);
+        assertEquals("com.study.entity.MailClient", readDefinition.getClassName());
+        assertEquals("pooled", readDefinition.getScope());
+        assertTrue(readDefinition.getLazyInit());
+        assertEquals(Map.of("signature", "Regards,\n\tthe\\team"), readDefinition.getValueDependencies());
+        assertEquals(Map.of("mailService", "mailServicePOP"), readDefinition.getRefDependencies());
+        assertEquals(beanDefinition.getConstructorArguments(), readDefinition.getConstructorArguments());
+        assertNull(beanDefinitions.get(1).getScope());
+        assertNull(beanDefinitions.get(1).getLazyInit());
+    }
+
+    @Test(expected = ParseContextException.class)
+    public void testReadRecordWithoutBean() throws Exception {
+        ComponentIndex.read(new StringReader("value\tport\t25\n"), "test");
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.ioc.reader.index;
+
+import com.study.ioc.entity.BeanDefinition;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class DevelopmentComponentScannerTest {
+
+    @Test
+    public void testGetBeanDefinitionMatchesIndex() {
+        Map<String, BeanDefinition> scannedDefinitions =
+                new DevelopmentComponentScanner("com.study.entity.component").getBeanDefinition();
+        Map<String, BeanDefinition> indexedDefinitions =
+                new ComponentIndexReader("com.study.entity.component").getBeanDefinition();
+
+        assertEquals(indexedDefinitions.keySet(), scannedDefinitions.keySet());
+        for (BeanDefinition indexedDefinition : indexedDefinitions.values()) {
+            BeanDefinition scannedDefinition = scannedDefinitions.get(indexedDefinition.getId());
+            assertEquals(indexedDefinition.getClassName(), scannedDefinition.getClassName());
+            assertEquals(indexedDefinition.getScope(), scannedDefinition.getScope());
+            assertEquals(indexedDefinition.getLazyInit(), scannedDefinition.getLazyInit());
+            assertEquals(indexedDefinition.getValueDependencies(), scannedDefinition.getValueDependencies());
+            assertEquals(indexedDefinition.getRefDependencies(), scannedDefinition.getRefDependencies());
+            assertEquals(indexedDefinition.getConstructorArguments(), scannedDefinition.getConstructorArguments());
+        }
+    }
+
+    @Test
+    public void testGetBeanDefinitionOfPackageWithoutComponents() {
+        assertEquals(Map.of(), new DevelopmentComponentScanner("com.study.ioc.scope").getBeanDefinition());
+    }
+}
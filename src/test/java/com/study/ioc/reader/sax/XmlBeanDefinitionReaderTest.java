@@ -1,15 +1,26 @@
 package com.study.ioc.reader.sax;
 
 import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import com.study.ioc.exception.ParseContextException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.*;
 
 public class XmlBeanDefinitionReaderTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private static final String CONTEXT_XML = "<beans>\n" +
             "    <bean id=\"mailServicePOP\" class=\"com.study.entity.MailService\">\n" +
             "        <property name=\"port\" value=\"995\"/>\n" +
@@ -68,4 +79,96 @@ public class XmlBeanDefinitionReaderTest {
         assertEquals("IMAP", valueDependencies3.get("protocol"));
 
     }
+
+    @Test
+    public void testGetBeanDefinitionMapWithLazyInit() throws Exception {
+        String contextXml = "<beans>" +
+                "<bean id=\"mailServicePOP\" class=\"com.study.entity.MailService\"/>" +
+                "<bean id=\"mailServiceIMAP\" class=\"com.study.entity.MailService\" lazy-init=\"true\"/>" +
+                "<bean id=\"mailServiceSMTP\" class=\"com.study.entity.MailService\" lazy-init=\"false\"/>" +
+                "</beans>";
+        Map<String, BeanDefinition> beanDefinitionMap =
+                new XmlBeanDefinitionReader().getBeanDefinitionMap(new ByteArrayInputStream(contextXml.getBytes()));
+
+        assertNull(beanDefinitionMap.get("mailServicePOP").getLazyInit());
+        assertTrue(beanDefinitionMap.get("mailServiceIMAP").getLazyInit());
+        assertFalse(beanDefinitionMap.get("mailServiceSMTP").getLazyInit());
+    }
+
+    @Test
+    public void testGetBeanDefinitionMapWithScope() throws Exception {
+        String contextXml = "<beans>" +
+                "<bean id=\"mailServicePOP\" class=\"com.study.entity.MailService\"/>" +
+                "<bean id=\"userService\" class=\"com.study.entity.DefaultUserService\" scope=\"pooled\" pool-max-size=\"4\"/>" +
+                "</beans>";
+        Map<String, BeanDefinition> beanDefinitionMap =
+                new XmlBeanDefinitionReader().getBeanDefinitionMap(new ByteArrayInputStream(contextXml.getBytes()));
+
+        assertNull(beanDefinitionMap.get("mailServicePOP").getScope());
+        assertEquals("pooled", beanDefinitionMap.get("userService").getScope());
+        assertEquals(Map.of("pool-max-size", "4"), beanDefinitionMap.get("userService").getScopeAttributes());
+    }
+
+    @Test
+    public void testGetBeanDefinitionMapWithConstructorArguments() throws Exception {
+        String contextXml = "<beans><bean id=\"mailClient\" class=\"com.study.entity.MailClient\">" +
+                "<constructor-arg index=\"1\" value=\"25\"/>" +
+                "<constructor-arg ref=\"mailServicePOP\"/>" +
+                "</bean></beans>";
+        Map<String, BeanDefinition> beanDefinitionMap =
+                new XmlBeanDefinitionReader().getBeanDefinitionMap(new ByteArrayInputStream(contextXml.getBytes()));
+
+        assertEquals(List.of(new ConstructorArgument(1, "25", null), new ConstructorArgument(null, null, "mailServicePOP")),
+                beanDefinitionMap.get("mailClient").getConstructorArguments());
+    }
+
+    @Test(expected = ParseContextException.class)
+    public void testGetBeanDefinitionMapWithAmbiguousConstructorArgument() throws Exception {
+        String contextXml = "<beans><bean id=\"mailClient\" class=\"com.study.entity.MailClient\">" +
+                "<constructor-arg value=\"25\" ref=\"mailServicePOP\"/>" +
+                "</bean></beans>";
+        new XmlBeanDefinitionReader().getBeanDefinitionMap(new ByteArrayInputStream(contextXml.getBytes()));
+    }
+
+    @Test
+    public void testGetBeanDefinitionFromSeveralPaths() {
+        Map<String, BeanDefinition> beanDefinitionMap =
+                new XmlBeanDefinitionReader("context.xml", "context-users.xml").getBeanDefinition();
+
+        assertEquals(8, beanDefinitionMap.size());
+        assertEquals("com.study.entity.User", beanDefinitionMap.get("user").getClassName());
+        assertEquals("com.study.entity.MailService", beanDefinitionMap.get("mailServiceIMAP").getClassName());
+    }
+
+    @Test
+    public void testGetBeanDefinitionWithDuplicateIdAcrossPaths() {
+        ParseContextException exception = assertThrows(ParseContextException.class,
+                () -> new XmlBeanDefinitionReader("context.xml", "context-users.xml", "context-duplicate.xml").getBeanDefinition());
+        assertEquals("Bean mailServiceIMAP is defined in both context.xml and context-duplicate.xml", exception.getMessage());
+    }
+
+    @Test
+    public void testGetBeanDefinitionReadsRepeatedPathOnce() {
+        Map<String, BeanDefinition> beanDefinitionMap = new XmlBeanDefinitionReader("context.xml", "context.xml").getBeanDefinition();
+
+        assertEquals(new XmlBeanDefinitionReader("context.xml").getBeanDefinition().keySet(), beanDefinitionMap.keySet());
+    }
+
+    @Test
+    public void testGetBeanDefinitionWithDuplicateIdAcrossRepeatedPaths() {
+        ParseContextException exception = assertThrows(ParseContextException.class,
+                () -> new XmlBeanDefinitionReader("context.xml", "context-duplicate.xml", "context.xml").getBeanDefinition());
+        assertEquals("Bean mailServiceIMAP is defined in both context.xml and context-duplicate.xml", exception.getMessage());
+    }
+
+    @Test
+    public void testGetBeanDefinitionKeepsParseCause() throws IOException {
+        Path contextFile = temporaryFolder.newFile("context-malformed.xml").toPath();
+        Files.writeString(contextFile, "<beans><bean id=\"mailService\" class=\"com.study.entity.MailService\">");
+
+        ParseContextException exception = assertThrows(ParseContextException.class,
+                () -> new XmlBeanDefinitionReader(contextFile.toString()).getBeanDefinition());
+        assertEquals("Context parse failed for " + contextFile, exception.getMessage());
+        assertNotNull(exception.getCause());
+    }
 }
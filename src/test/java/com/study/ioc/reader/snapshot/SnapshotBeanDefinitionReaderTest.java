@@ -0,0 +1,129 @@
+package com.study.ioc.reader.snapshot;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.entity.ConstructorArgument;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class SnapshotBeanDefinitionReaderTest {
+
+    private static final String CONTEXT_XML = "<beans>\n" +
+            "    <bean id=\"mailServicePOP\" class=\"com.study.entity.MailService\" lazy-init=\"true\">\n" +
+            "        <property name=\"port\" value=\"995\"/>\n" +
+            "        <property name=\"protocol\" value=\"POP3\"/>\n" +
+            "    </bean>\n" +
+            "    <bean id=\"userService\" class=\"com.study.entity.DefaultUserService\">\n" +
+            "        <property name=\"mailService\" ref=\"mailServicePOP\"/>\n" +
+            "    </bean>\n" +
+            "</beans>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGetBeanDefinitionWritesSnapshot() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, CONTEXT_XML);
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+
+        Map<String, BeanDefinition> parsedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertTrue(Files.isRegularFile(snapshotFile));
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertEquals(parsedDefinitions.keySet(), loadedDefinitions.keySet());
+        BeanDefinition mailServiceDefinition = loadedDefinitions.get("mailServicePOP");
+        assertEquals("com.study.entity.MailService", mailServiceDefinition.getClassName());
+        assertEquals(Map.of("port", "995", "protocol", "POP3"), mailServiceDefinition.getValueDependencies());
+        assertTrue(mailServiceDefinition.getLazyInit());
+        BeanDefinition userServiceDefinition = loadedDefinitions.get("userService");
+        assertEquals(Map.of("mailService", "mailServicePOP"), userServiceDefinition.getRefDependencies());
+        assertNull(userServiceDefinition.getLazyInit());
+    }
+
+    @Test
+    public void testGetBeanDefinitionKeepsConstructorArguments() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, "<beans><bean id=\"mailClient\" class=\"com.study.entity.MailClient\">" +
+                "<constructor-arg ref=\"mailServicePOP\"/><constructor-arg index=\"1\" value=\"pop.host\"/>" +
+                "</bean></beans>");
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertEquals(List.of(new ConstructorArgument(null, null, "mailServicePOP"), new ConstructorArgument(1, "pop.host", null)),
+                loadedDefinitions.get("mailClient").getConstructorArguments());
+    }
+
+    @Test
+    public void testGetBeanDefinitionSkipsParsingWhenSourceUnchanged() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, CONTEXT_XML);
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        Files.setLastModifiedTime(snapshotFile, FileTime.fromMillis(1_000));
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertEquals(2, loadedDefinitions.size());
+        assertEquals(FileTime.fromMillis(1_000), Files.getLastModifiedTime(snapshotFile));
+    }
+
+    @Test
+    public void testGetBeanDefinitionReparsesSourceChangedUnderSameModificationTime() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, CONTEXT_XML);
+        FileTime lastModified = Files.getLastModifiedTime(contextFile);
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+
+        Files.writeString(contextFile, "<beans><bean id=\"user\" class=\"com.study.entity.User\"/></beans>");
+        Files.setLastModifiedTime(contextFile, lastModified);
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertEquals(Set.of("user"), loadedDefinitions.keySet());
+    }
+
+    @Test
+    public void testGetBeanDefinitionReparsesChangedSource() throws Exception {
+        Path contextFile = temporaryFolder.getRoot().toPath().resolve("context.xml");
+        Files.writeString(contextFile, CONTEXT_XML);
+        Files.setLastModifiedTime(contextFile, FileTime.fromMillis(1_000));
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+
+        Files.writeString(contextFile, "<beans><bean id=\"user\" class=\"com.study.entity.User\"/></beans>");
+        Files.setLastModifiedTime(contextFile, FileTime.fromMillis(2_000));
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition();
+        assertEquals(Map.of("user", loadedDefinitions.get("user")), loadedDefinitions);
+        assertEquals(1, new SnapshotBeanDefinitionReader(snapshotFile, contextFile.toString()).getBeanDefinition().size());
+    }
+
+    @Test
+    public void testGetBeanDefinitionIgnoresCorruptSnapshot() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("context.snapshot");
+        new SnapshotBeanDefinitionReader(snapshotFile, "context.xml").getBeanDefinition();
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshotFile, bytes);
+
+        Map<String, BeanDefinition> loadedDefinitions =
+                new SnapshotBeanDefinitionReader(snapshotFile, "context.xml").getBeanDefinition();
+        assertEquals(7, loadedDefinitions.size());
+    }
+}
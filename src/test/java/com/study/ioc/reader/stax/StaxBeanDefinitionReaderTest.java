@@ -0,0 +1,90 @@
+package com.study.ioc.reader.stax;
+
+import com.study.ioc.entity.BeanDefinition;
+import com.study.ioc.exception.ParseContextException;
+import com.study.ioc.reader.sax.XmlBeanDefinitionReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class StaxBeanDefinitionReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGetBeanDefinitionMatchesSaxReader() {
+        Map<String, BeanDefinition> staxDefinitions = new StaxBeanDefinitionReader("context.xml").getBeanDefinition();
+        Map<String, BeanDefinition> saxDefinitions = new XmlBeanDefinitionReader("context.xml").getBeanDefinition();
+
+        assertEquals(saxDefinitions.keySet(), staxDefinitions.keySet());
+        for (BeanDefinition saxDefinition : saxDefinitions.values()) {
+            BeanDefinition staxDefinition = staxDefinitions.get(saxDefinition.getId());
+            assertEquals(saxDefinition.getClassName(), staxDefinition.getClassName());
+            assertEquals(saxDefinition.getValueDependencies(), staxDefinition.getValueDependencies());
+            assertEquals(saxDefinition.getRefDependencies(), staxDefinition.getRefDependencies());
+        }
+    }
+
+    @Test
+    public void testReadBeanDefinitionsInDocumentOrder() throws Exception {
+        String contextXml = "<beans>" +
+                "<bean id=\"mailService\" class=\"com.study.entity.MailService\" lazy-init=\"true\">" +
+                "<property name=\"port\" value=\"995\"/></bean>" +
+                "<bean id=\"userService\" class=\"com.study.entity.DefaultUserService\">" +
+                "<property name=\"mailService\" ref=\"mailService\"/></bean>" +
+                "</beans>";
+        List<BeanDefinition> beanDefinitions = new ArrayList<>();
+
+        new StaxBeanDefinitionReader().readBeanDefinitions(new ByteArrayInputStream(contextXml.getBytes()), beanDefinitions::add);
+
+        assertEquals(2, beanDefinitions.size());
+        assertEquals("mailService", beanDefinitions.get(0).getId());
+        assertEquals(Map.of("port", "995"), beanDefinitions.get(0).getValueDependencies());
+        assertTrue(beanDefinitions.get(0).getLazyInit());
+        assertEquals("userService", beanDefinitions.get(1).getId());
+        assertEquals(Map.of("mailService", "mailService"), beanDefinitions.get(1).getRefDependencies());
+    }
+
+    @Test(expected = ParseContextException.class)
+    public void testReadBeanDefinitionsWithoutClass() throws Exception {
+        String contextXml = "<beans><bean id=\"mailService\"/></beans>";
+        new StaxBeanDefinitionReader().readBeanDefinitions(new ByteArrayInputStream(contextXml.getBytes()), beanDefinition -> {
+        });
+    }
+
+    @Test
+    public void testGetBeanDefinitionReadsRepeatedPathOnce() {
+        Map<String, BeanDefinition> beanDefinitionMap = new StaxBeanDefinitionReader("context.xml", "context.xml").getBeanDefinition();
+
+        assertEquals(new StaxBeanDefinitionReader("context.xml").getBeanDefinition().keySet(), beanDefinitionMap.keySet());
+    }
+
+    @Test
+    public void testGetBeanDefinitionWithDuplicateIdAcrossRepeatedPaths() {
+        ParseContextException exception = assertThrows(ParseContextException.class,
+                () -> new StaxBeanDefinitionReader("context.xml", "context-duplicate.xml", "context.xml").getBeanDefinition());
+        assertEquals("Bean mailServiceIMAP is defined in both context.xml and context-duplicate.xml", exception.getMessage());
+    }
+
+    @Test
+    public void testGetBeanDefinitionKeepsParseCause() throws IOException {
+        Path contextFile = temporaryFolder.newFile("context-malformed.xml").toPath();
+        Files.writeString(contextFile, "<beans><bean id=\"mailService\" class=\"com.study.entity.MailService\">");
+
+        ParseContextException exception = assertThrows(ParseContextException.class,
+                () -> new StaxBeanDefinitionReader(contextFile.toString()).getBeanDefinition());
+        assertEquals("Context parse failed for " + contextFile, exception.getMessage());
+        assertNotNull(exception.getCause());
+    }
+}
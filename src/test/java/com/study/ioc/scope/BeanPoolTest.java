@@ -0,0 +1,95 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.exception.BeanInstantiationException;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BeanPoolTest {
+
+    @Test
+    @DisplayName("test Released Bean Is Reused")
+    public void testReleasedBeanIsReused() {
+        BeanPool beanPool = new BeanPool("bean", Object::new, 0, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        Object first = beanPool.borrow();
+        Object second = beanPool.borrow();
+        assertNotSame(first, second);
+        assertEquals(2, beanPool.getSize());
+
+        beanPool.release(first);
+        assertSame(first, beanPool.borrow());
+        assertEquals(2, beanPool.getSize());
+    }
+
+    @Test
+    @DisplayName("test Borrow Waits For Release When Pool Is Exhausted")
+    public void testBorrowWaitsForReleaseWhenPoolIsExhausted() throws Exception {
+        BeanPool beanPool = new BeanPool("bean", Object::new, 0, 1, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        Object bean = beanPool.borrow();
+
+        CompletableFuture<Object> waiting = CompletableFuture.supplyAsync(beanPool::borrow);
+        try {
+            waiting.get(100, TimeUnit.MILLISECONDS);
+            fail("Borrow should wait for a released bean");
+        } catch (TimeoutException expected) {
+        }
+
+        beanPool.release(bean);
+        assertSame(bean, waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("test Borrow Times Out When Pool Stays Exhausted")
+    public void testBorrowTimesOutWhenPoolStaysExhausted() {
+        BeanPool beanPool = new BeanPool("bean", Object::new, 0, 1, Duration.ofMinutes(1), Duration.ofMillis(50));
+        beanPool.borrow();
+
+        BeanInstantiationException exception = assertThrows(BeanInstantiationException.class, beanPool::borrow);
+        assertEquals("Can`t borrow bean bean, all 1 pooled instances are in use", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("test First Borrow Fills Pool To Min Size")
+    public void testFirstBorrowFillsPoolToMinSize() {
+        AtomicInteger createdBeans = new AtomicInteger();
+        BeanPool beanPool = new BeanPool("bean", () -> createdBeans.incrementAndGet(), 3, 5,
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        beanPool.borrow();
+        assertEquals(3, createdBeans.get());
+        assertEquals(3, beanPool.getSize());
+        assertEquals(2, beanPool.getIdleSize());
+    }
+
+    @Test
+    @DisplayName("test Idle Beans Are Evicted Down To Min Size")
+    public void testIdleBeansAreEvictedDownToMinSize() {
+        BeanPool beanPool = new BeanPool("bean", Object::new, 1, 3, Duration.ZERO, Duration.ofMinutes(1));
+        Object first = beanPool.borrow();
+        Object second = beanPool.borrow();
+        Object third = beanPool.borrow();
+
+        beanPool.release(first);
+        beanPool.release(second);
+        beanPool.release(third);
+
+        assertEquals(1, beanPool.getSize());
+        assertEquals(1, beanPool.getIdleSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("test Release Of Foreign Bean")
+    public void testReleaseOfForeignBean() {
+        BeanPool beanPool = new BeanPool("bean", Object::new, 0, 1, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        beanPool.release(new Object());
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PooledScopeTest {
+
+    private final PooledScope pooledScope = new PooledScope();
+
+    @Test
+    @DisplayName("test Lookup With Removed Definition Keeps The New Pool")
+    public void testLookupWithRemovedDefinitionKeepsTheNewPool() {
+        BeanDefinition oldDefinition = createDefinition("60000");
+        BeanDefinition newDefinition = createDefinition("60000");
+        Object oldBean = pooledScope.get(oldDefinition, Object::new);
+
+        pooledScope.remove(oldDefinition);
+        Object newBean = pooledScope.get(newDefinition, Object::new);
+        BeanPool newPool = pooledScope.getPool(newDefinition, Object::new);
+        Object staleBean = pooledScope.get(oldDefinition, Object::new);
+
+        assertNull(pooledScope.getPool(oldDefinition, Object::new));
+        assertSame(newPool, pooledScope.getPool(newDefinition, Object::new));
+        assertEquals(1, newPool.getSize());
+        pooledScope.release(oldDefinition, oldBean);
+        pooledScope.release(oldDefinition, staleBean);
+        pooledScope.release(newDefinition, newBean);
+        assertEquals(1, newPool.getIdleSize());
+    }
+
+    @Test
+    @DisplayName("test Lookup Before Old Definition Is Removed Leaves Its Pool")
+    public void testLookupBeforeOldDefinitionIsRemovedLeavesItsPool() {
+        BeanDefinition oldDefinition = createDefinition("60000");
+        BeanDefinition newDefinition = createDefinition("60000");
+        pooledScope.release(oldDefinition, pooledScope.get(oldDefinition, Object::new));
+        BeanPool oldPool = pooledScope.getPool(oldDefinition, Object::new);
+
+        Object unpooledBean = pooledScope.get(newDefinition, Object::new);
+
+        assertSame(oldPool, pooledScope.getPool(oldDefinition, Object::new));
+        assertEquals(1, oldPool.getIdleSize());
+        pooledScope.release(newDefinition, unpooledBean);
+        pooledScope.remove(oldDefinition);
+        assertNotNull(pooledScope.getPool(newDefinition, Object::new));
+    }
+
+    @Test
+    @DisplayName("test Evict Idle Beans Trims Unused Pools")
+    public void testEvictIdleBeansTrimsUnusedPools() throws InterruptedException {
+        BeanDefinition beanDefinition = createDefinition("20");
+        Object first = pooledScope.get(beanDefinition, Object::new);
+        Object second = pooledScope.get(beanDefinition, Object::new);
+        pooledScope.release(beanDefinition, first);
+        pooledScope.release(beanDefinition, second);
+        BeanPool pool = pooledScope.getPool(beanDefinition, Object::new);
+        assertEquals(2, pool.getIdleSize());
+
+        Thread.sleep(50);
+        pooledScope.evictIdleBeans();
+
+        assertEquals(0, pool.getIdleSize());
+        assertEquals(0, pool.getSize());
+    }
+
+    private static BeanDefinition createDefinition(String idleTimeout) {
+        BeanDefinition beanDefinition = new BeanDefinition("pooledBean", "java.lang.Object");
+        beanDefinition.setScope(PooledScope.NAME);
+        beanDefinition.setScopeAttributes(Map.of(PooledScope.IDLE_TIMEOUT_ATTRIBUTE, idleTimeout));
+        return beanDefinition;
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.ioc.scope;
+
+import com.study.ioc.entity.BeanDefinition;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ThreadScopeTest {
+
+    private final BeanDefinition beanDefinition = new BeanDefinition("mailServicePOP", "com.study.entity.MailService");
+
+    @Test
+    @DisplayName("test Clear Drops Beans Of The Calling Thread")
+    public void testClearDropsBeansOfTheCallingThread() {
+        ThreadScope threadScope = new ThreadScope();
+        Object bean = threadScope.get(beanDefinition, Object::new);
+        assertSame(bean, threadScope.get(beanDefinition, Object::new));
+
+        threadScope.clear();
+
+        assertNotSame(bean, threadScope.get(beanDefinition, Object::new));
+    }
+
+    @Test
+    @DisplayName("test Close Drops Beans Of Other Threads")
+    public void testCloseDropsBeansOfOtherThreads() throws Exception {
+        ThreadScope threadScope = new ThreadScope();
+        Object[] otherThreadBeans = new Object[2];
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        Thread otherThread = new Thread(() -> {
+            otherThreadBeans[0] = threadScope.get(beanDefinition, Object::new);
+            created.countDown();
+            try {
+                closed.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            otherThreadBeans[1] = threadScope.get(beanDefinition, Object::new);
+        });
+        otherThread.start();
+        created.await();
+        threadScope.close();
+        closed.countDown();
+        otherThread.join();
+
+        assertNotSame(otherThreadBeans[0], otherThreadBeans[1]);
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.ioc.startup;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StartupTrackerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    @DisplayName("test Bean Steps Are Aggregated Per Bean")
+    public void testBeanStepsAreAggregatedPerBean() {
+        StartupRecorder startupRecorder = new StartupRecorder();
+        StartupTracker startupTracker = new StartupTracker(List.of(startupRecorder));
+
+        startupTracker.trackPhase(StartupPhase.CREATE_BEANS, () -> {
+            startupTracker.trackBean(StartupPhase.CREATE_BEANS, "fast", () -> {
+            });
+            startupTracker.trackBean(StartupPhase.CREATE_BEANS, "slow\"bean", () -> sleep(20));
+        });
+        startupTracker.trackBean(StartupPhase.INITIALIZE_BEANS, "slow\"bean", () -> sleep(5));
+
+        StartupReport startupReport = startupRecorder.getReport();
+        assertEquals(1, startupReport.getPhases().size());
+        assertEquals(List.of("slow\"bean", "fast"),
+                startupReport.getBeans().stream().map(BeanTiming::getBeanId).toList());
+        BeanTiming slowBean = startupReport.getSlowestBeans(1).get(0);
+        assertEquals(2, slowBean.getPhaseDurations().size());
+        assertTrue(slowBean.getDurationNanos() >= 25_000_000);
+        assertTrue(startupReport.toJson(1).contains("\"beanId\":\"slow\\\"bean\""));
+        assertFalse(startupReport.toJson(1).contains("\"fast\""));
+    }
+
+    @Test
+    @DisplayName("test Nested Bean Steps Are Excluded From The Outer Bean")
+    public void testNestedBeanStepsAreExcludedFromTheOuterBean() {
+        StartupRecorder startupRecorder = new StartupRecorder();
+        StartupTracker startupTracker = new StartupTracker(List.of(startupRecorder));
+
+        startupTracker.trackBean(StartupPhase.CREATE_BEANS, "userService", () ->
+                startupTracker.trackBean(StartupPhase.CREATE_BEANS, "mailService", () -> {
+                    sleep(20);
+                    return new byte[1 << 20];
+                }));
+
+        StartupReport startupReport = startupRecorder.getReport();
+        BeanTiming mailService = startupReport.getSlowestBeans(1).get(0);
+        BeanTiming userService = startupReport.getBeans().stream()
+                .filter(beanTiming -> beanTiming.getBeanId().equals("userService")).findFirst().orElseThrow();
+        assertEquals("mailService", mailService.getBeanId());
+        assertTrue(mailService.getDurationNanos() >= 20_000_000);
+        assertTrue(userService.getDurationNanos() < mailService.getDurationNanos());
+        if (mailService.getAllocatedBytes() >= 0) {
+            assertTrue(mailService.getAllocatedBytes() >= 1 << 20);
+            assertTrue(userService.getAllocatedBytes() < 1 << 20);
+        }
+    }
+
+    @Test
+    @DisplayName("test Steps Are Recorded As Flight Recorder Events")
+    public void testStepsAreRecordedAsFlightRecorderEvents() throws Exception {
+        StartupTracker startupTracker = new StartupTracker(List.of());
+        Path recordingFile = temporaryFolder.getRoot().toPath().resolve("startup.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.study.ioc.BeanStartup");
+            recording.start();
+            startupTracker.trackBean(StartupPhase.CREATE_BEANS, "mailService", () -> {
+            });
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertEquals(1, events.size());
+        assertEquals("mailService", events.get(0).getString("beanId"));
+        assertEquals("CREATE_BEANS", events.get(0).getString("phase"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}